@@ -9,10 +9,12 @@ final class AdvisedAutowireJoinPoint implements AutowireJoinPoint {
     private final Object                component;
     private final ComponentProvider<?> dependency;
     private final Field                     field;
+    private final FieldJoint                joint;
     private final AutowireInterceptor advice;
 
-    AdvisedAutowireJoinPoint(Object component, Field field, ComponentProvider<?> dependency, AutowireInterceptor advice) {
+    AdvisedAutowireJoinPoint(Object component, Field field, FieldJoint joint, ComponentProvider<?> dependency, AutowireInterceptor advice) {
         this.field      =      field;
+        this.joint      =      joint;
         this.advice     =     advice;
         this.component  =  component;
         this.dependency = dependency;
@@ -20,7 +22,7 @@ final class AdvisedAutowireJoinPoint implements AutowireJoinPoint {
 
     @Override
     public FieldJoint dissect() {
-        return new FieldJoint(field);
+        return joint;
     }
 
     @Override
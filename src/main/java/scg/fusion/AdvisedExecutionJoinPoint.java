@@ -1,26 +1,29 @@
 package scg.fusion;
 
-import scg.fusion.aop.ExecutionJoinPoint;
+import scg.fusion.aop.AsyncExecutionJoinPoint;
 import scg.fusion.cglib.proxy.ExecutionInterceptor;
 import scg.fusion.cglib.proxy.MethodProxy;
 
 import java.lang.reflect.Method;
 
 import static java.util.Objects.isNull;
+import static scg.fusion.ExecutionChain.getActualCallSide;
 
-final class AdvisedExecutionJoinPoint implements ExecutionJoinPoint {
+public class AdvisedExecutionJoinPoint implements AsyncExecutionJoinPoint {
 
     private final Class<?>        callSide;
     private final Object         component;
     private final Method            method;
+    private final MethodJoint        joint;
     private final MethodProxy proxy;
     private final Object[]            args;
     private final ExecutionInterceptor advice;
 
-    public AdvisedExecutionJoinPoint(Class<?> callSide, Object component, Method method, MethodProxy proxy, ExecutionInterceptor advice, Object[] args) {
+    public AdvisedExecutionJoinPoint(Class<?> callSide, Object component, Method method, MethodJoint joint, MethodProxy proxy, ExecutionInterceptor advice, Object[] args) {
         this.callSide  =  callSide;
         this.component = component;
         this.method    =    method;
+        this.joint     =     joint;
         this.proxy     =     proxy;
         this.args      =      args;
         this.advice    =    advice;
@@ -28,7 +31,7 @@ final class AdvisedExecutionJoinPoint implements ExecutionJoinPoint {
 
     @Override
     public MethodJoint dissect() {
-        return new MethodJoint(method);
+        return joint;
     }
 
     @Override
@@ -37,20 +40,25 @@ final class AdvisedExecutionJoinPoint implements ExecutionJoinPoint {
     }
 
     public Class<?> getCallSide() {
-        return callSide;
+        return getActualCallSide(callSide);
     }
 
     public Object[] getArgs() {
         return args;
     }
 
+    @Override
+    public int getArgCount() {
+        return args.length;
+    }
+
     public <T> T getArg(int index) {
         return (T) args[index];
     }
 
     @Override
     public <R> R proceed() throws Throwable {
-        return (R) advice.intercept(callSide, component, method, args, proxy);
+        return (R) intercept(advice, callSide, component, method, args, proxy);
     }
 
     public <R> R proceed(Object... args) throws Throwable {
@@ -59,7 +67,15 @@ final class AdvisedExecutionJoinPoint implements ExecutionJoinPoint {
             args = this.args;
         }
 
-        return (R) advice.intercept(callSide, component, method, args, proxy);
+        return (R) intercept(advice, callSide, component, method, args, proxy);
+    }
+
+    /**
+     * Proceeds to the next advice. Specialized executions override it with a call to the exact type of
+     * the next layer, so the whole chain is inlined even though this class is shared.
+     */
+    protected Object intercept(ExecutionInterceptor advice, Class<?> callSide, Object component, Method method, Object[] args, MethodProxy proxy) throws Throwable {
+        return advice.intercept(callSide, component, method, args, proxy);
     }
 
     public Method getMethod() {
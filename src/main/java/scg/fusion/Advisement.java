@@ -0,0 +1,17 @@
+package scg.fusion;
+
+import java.lang.reflect.Method;
+
+public interface Advisement {
+
+    void enable(Class<?> aspectType);
+
+    void disable(Class<?> aspectType);
+
+    void enable(Method advice);
+
+    void disable(Method advice);
+
+    boolean isEnabled(Method advice);
+
+}
@@ -3,9 +3,7 @@ package scg.fusion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import scg.fusion.annotation.Around;
-import scg.fusion.cglib.proxy.Callback;
 import scg.fusion.cglib.proxy.ExecutionInterceptor;
-import scg.fusion.cglib.proxy.MethodProxy;
 import scg.fusion.exceptions.IllegalContractException;
 import scg.fusion.exceptions.PointcutExpressionSyntaxError;
 
@@ -13,32 +11,36 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static java.lang.reflect.Modifier.isAbstract;
+import static java.lang.reflect.Modifier.isStatic;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingInt;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.toSet;
 import static scg.fusion.OnTheFlyFactory.*;
 import static scg.fusion.Pointcut.parse;
 import static scg.fusion.Pointcuts.*;
 import static scg.fusion.Utils.*;
 import static scg.fusion.Utils.getActualComponentType;
 
-final class AdvisementLayer implements ExecutionInterceptor, AutowireInterceptor, ConstructorFactory, AutoCloseable {
+final class AdvisementLayer implements AutowireInterceptor, ConstructorFactory, AutoCloseable {
 
     private static final Logger log = LoggerFactory.getLogger(AdvisementLayer.class);
 
-    private static final Map<String, Pointcut> pointcuts = new HashMap<>();
-
     private boolean defined;
 
-    final Callback[] callbacks = new Callback[]{this};
-
     private final Set<Class<?>> proxies = new HashSet<>();
 
     private final Set<Class<?>> aspects = new HashSet<>();
 
+    private final Set<Class<?>> woven = new HashSet<>();
+
     private final Set<Class<?>> newProxies = new HashSet<>();
 
     private final Set<Class<?>> initProxies = new HashSet<>();
@@ -47,14 +49,32 @@ final class AdvisementLayer implements ExecutionInterceptor, AutowireInterceptor
 
     private final Map<Class<?>, Map<String, Field>> wireProxies = new HashMap<>();
 
-    private final Map<Field, Set<AutowireAdvisor>> autowireAdvisement = new HashMap<>();
+    private final Map<Field, List<AutowireAdvisor>> autowireAdvisement = new HashMap<>();
+
+    private final Map<Field, AutowireChain> autowireChains = new HashMap<>();
+
+    private final Map<Method, List<ExecutionAdvisor>> executionAdvisement = new HashMap<>();
+
+    private final Map<Method, ExecutionChain> executionChains = new HashMap<>();
+
+    private final Map<Class<?>, ExecutionCallbacks> executionCallbacks = new HashMap<>();
+
+    private final Map<PrivilegedAdvisor, Method> advisedBy = new IdentityHashMap<>();
 
-    private final Map<Method, Set<ExecutionAdvisor>> executionAdvisement = new HashMap<>();
+    private final Map<Class<?>, Set<Method>> aspectAdvices = new HashMap<>();
 
-    AdvisementLayer(Set<Class<?>> componentTypes, ComponentFactory components) {
+    private final Map<Method, Set<ExecutionChain>> executionChainsByAdvice = new HashMap<>();
+
+    private final Map<Method, Set<AutowireChain>> autowireChainsByAdvice = new HashMap<>();
+
+    private final Set<Method> disabledAdvices = ConcurrentHashMap.newKeySet();
+
+    AdvisementLayer(Set<Class<?>> componentTypes, ComponentFactory components, Specializations specializations) {
 
         Map<Class<?>, Set<Method>> advices = classifyAdvices(componentTypes);
 
+        aspectAdvices.putAll(advices);
+
         for (Class<?> aspectType : advices.keySet()) {
 
             for (Method advice : advices.get(aspectType)) {
@@ -63,8 +83,15 @@ final class AdvisementLayer implements ExecutionInterceptor, AutowireInterceptor
 
                 for (Pointcut crosscut : parseExecutionCrosscut(advice)) {
 
+                    // one advisor per crosscut and container, it caches the aspect instance of this container
+                    ExecutionAdvisor advisor = null;
+
                     for (Method method : filterMethods(componentTypes, crosscut)) {
 
+                        if (isAsyncExecutionCrosscutAdvice(advice) && !isAsyncExecution(method)) {
+                            continue;
+                        }
+
                         Class<?> componentType = method.getDeclaringClass();
 
                         advised = true;
@@ -77,7 +104,13 @@ final class AdvisementLayer implements ExecutionInterceptor, AutowireInterceptor
                             proxies.add(componentType);
                         }
 
-                        executionAdvisement.compute(method, append(newExecutionAdvisor(crosscut, aspectType, advice, components.getProvider(aspectType), getPrivilegeLevel(advice))));
+                        if (advisor == null) {
+                            advisor = newExecutionAdvisor(crosscut, aspectType, advice, components.getProvider(aspectType), getPrivilegeLevel(advice));
+                        }
+
+                        advisedBy.put(advisor, advice);
+
+                        executionAdvisement.compute(method, append(advisor));
                     }
                 }
 
@@ -105,7 +138,11 @@ final class AdvisementLayer implements ExecutionInterceptor, AutowireInterceptor
                             wireProxies.compute(field.getDeclaringClass(), append(field));
                         }
 
-                        autowireAdvisement.compute(field, append(newAutowireAdvisor(crosscut, aspectType, advice, components.getProvider(aspectType), -getPrivilegeLevel(advice))));
+                        AutowireAdvisor advisor = newAutowireAdvisor(crosscut, aspectType, advice, components.getProvider(aspectType), -getPrivilegeLevel(advice));
+
+                        advisedBy.put(advisor, advice);
+
+                        autowireAdvisement.compute(field, append(advisor));
                     }
                 }
 
@@ -117,6 +154,43 @@ final class AdvisementLayer implements ExecutionInterceptor, AutowireInterceptor
             aspects.add(aspectType);
         }
 
+        for (Method method : executionAdvisement.keySet()) {
+
+            List<ExecutionAdvisor> advisement = executionAdvisement.get(method);
+
+            advisement.sort(comparingInt(ExecutionAdvisor::getPrivilegeLevel).thenComparing(this::getAdviceName));
+
+            ExecutionChain chain = new ExecutionChain(method, advisement, this::isEnabled, specializations);
+
+            for (ExecutionAdvisor advisor : advisement) {
+                executionChainsByAdvice.computeIfAbsent(advisedBy.get(advisor), $ -> new HashSet<>()).add(chain);
+            }
+
+            executionChains.put(method, chain);
+        }
+
+        for (Class<?> componentType : componentTypes) {
+            // a component inheriting an advised method needs a proxy even if it declares no advised method itself
+            if (!getExecutionChains(componentType).isEmpty()) {
+                proxies.add(componentType);
+            }
+        }
+
+        for (Field field : autowireAdvisement.keySet()) {
+
+            List<AutowireAdvisor> advisement = autowireAdvisement.get(field);
+
+            advisement.sort(comparingInt(AutowireAdvisor::getPrivilegeLevel).thenComparing(this::getAdviceName));
+
+            AutowireChain chain = new AutowireChain(field, advisement, this::isEnabled);
+
+            for (AutowireAdvisor advisor : advisement) {
+                autowireChainsByAdvice.computeIfAbsent(advisedBy.get(advisor), $ -> new HashSet<>()).add(chain);
+            }
+
+            autowireChains.put(field, chain);
+        }
+
         this.defined = !executionAdvisement.isEmpty() || !autowireAdvisement.isEmpty();
 
         for (Class<?> aspect : advices.keySet()) {
@@ -129,61 +203,174 @@ final class AdvisementLayer implements ExecutionInterceptor, AutowireInterceptor
 
     }
 
+    static Map<Class<?>, Map<Method, Boolean>> listAdvisedExecutions(Set<Class<?>> componentTypes) {
+
+        Map<Class<?>, Map<Method, Boolean>> executions = new HashMap<>();
+
+        Map<Class<?>, Set<Method>> advices = classifyAdvices(componentTypes);
+
+        for (Class<?> aspectType : advices.keySet()) {
+            for (Method advice : advices.get(aspectType)) {
+                for (Pointcut crosscut : parseExecutionCrosscut(advice)) {
+                    for (Method method : filterMethods(componentTypes, crosscut)) {
+
+                        if (isInit(method) || isNew(method) || isStatic(method.getModifiers()) || isAbstract(method.getModifiers())) {
+                            continue;
+                        }
+
+                        if (!componentTypes.contains(method.getDeclaringClass())) {
+                            continue; // inherited from a non component, left to the subclass proxy
+                        }
+
+                        if (isAsyncExecutionCrosscutAdvice(advice) && !isAsyncExecution(method)) {
+                            continue;
+                        }
+
+                        executions.computeIfAbsent(method.getDeclaringClass(), $ -> new LinkedHashMap<>()).merge(method, crosscut.isWithinGuard(), Boolean::logicalOr);
+                    }
+                }
+            }
+        }
+
+        return executions;
+
+    }
+
     @Override
     public void close() {
-        pointcuts.clear();
         proxies.clear();
         aspects.clear();
+        woven.clear();
         newProxies.clear();
         initProxies.clear();
         wireProxies.clear();
+        executionCallbacks.clear();
         defined = false;
     }
 
-    @Override
-    public Object intercept(Object component, Field field, ComponentProvider<?> dependency) {
+    Set<Class<?>> getAspectTypes() {
+        return aspectAdvices.keySet();
+    }
 
-        Class<?> targetType = getActualComponentType(component.getClass());
+    Set<Method> getAdvices(Class<?> aspectType) {
 
-        AutowireInterceptor entryPoint = (null);
+        Set<Method> advices = aspectAdvices.get(getActualComponentType(aspectType));
 
-        for (AutowireAdvisor advisor : autowireAdvisement.getOrDefault(field, emptySet())) {
-            entryPoint = isNull(entryPoint) ? delayJp(advisor) : delayAjp(advisor, entryPoint);
+        if (isNull(advices)) {
+            throw new IllegalContractException("[%s] is not an aspect", aspectType);
         }
 
-        if (isNull(entryPoint)) {
-            return dependency.getComponent();
-        } else {
-            return entryPoint.intercept(component, field, dependency);
+        return advices;
+
+    }
+
+    Set<Method> getDisabledAdvices() {
+        return disabledAdvices;
+    }
+
+    boolean isEnabled(Method advice) {
+        return !disabledAdvices.contains(advice);
+    }
+
+    void setEnabled(Class<?> aspectType, boolean enabled) {
+        for (Method advice : getAdvices(aspectType)) {
+            setEnabled(advice, enabled);
         }
     }
 
-    @Override
-    public Object intercept(Class<?> callSide, Object component, Method method, Object[] args, MethodProxy proxy) throws Throwable {
+    synchronized void setEnabled(Method advice, boolean enabled) {
+
+        if (!isAdvice(advice)) {
+            throw new IllegalContractException("[%s] is not an advice", advice);
+        }
 
-        callSide = getActualComponentType(callSide);
+        if (enabled ? disabledAdvices.remove(advice) : disabledAdvices.add(advice)) {
 
-        ExecutionInterceptor entryPoint = (null);
+            executionChainsByAdvice.getOrDefault(advice, emptySet()).forEach(ExecutionChain::refresh);
+            autowireChainsByAdvice.getOrDefault(advice, emptySet()).forEach(AutowireChain::refresh);
+
+            log.info("Advice {} [{}]", enabled ? "enabled" : "disabled", advice);
+        }
+
+    }
 
-        for (ExecutionAdvisor advisor : executionAdvisement.getOrDefault(method, emptySet())) {
-            if (!advisor.isWithinGuard()) {
-                entryPoint = isNull(entryPoint) ? delayJp(advisor) : delayAjp(advisor, entryPoint);
-            } else if (advisor.match(callSide, method)) {
-                entryPoint = isNull(entryPoint) ? delayJp(advisor) : delayAjp(advisor, entryPoint);
+    // an advice may be declared by a superclass or an AspectSpec interface rather than by its aspect type
+    private boolean isAdvice(Method advice) {
+
+        for (Set<Method> advices : aspectAdvices.values()) {
+            if (advices.contains(advice)) {
+                return true;
             }
         }
 
-        if (isNull(entryPoint)) {
-            return proxy.invokeSuper(component, args);
-        } else {
-            return entryPoint.intercept(callSide, component, method, args, proxy);
+        return false;
+
+    }
+
+    private boolean isEnabled(PrivilegedAdvisor advisor) {
+        return disabledAdvices.isEmpty() || isEnabled(advisedBy.get(advisor));
+    }
+
+    @Override
+    public Object intercept(Object component, Field field, ComponentProvider<?> dependency) {
+        return getAutowireChain(field).intercept(component, field, dependency);
+    }
+
+    AutowireInterceptor getAutowireChain(Field field) {
+        AutowireInterceptor chain = autowireChains.get(field);
+        return isNull(chain) ? AutowireChain.PROCEED : chain;
+    }
+
+    ExecutionInterceptor getExecutionChain(Method method) {
+        ExecutionInterceptor chain = executionChains.get(method);
+        return isNull(chain) ? ExecutionChain.PROCEED : chain;
+    }
+
+    ExecutionCallbacks getExecutionCallbacks(Class<?> componentType) {
+        return executionCallbacks.computeIfAbsent(componentType, $ -> new ExecutionCallbacks(getExecutionChains(componentType)));
+    }
+
+    List<ExecutionChain> getExecutionChains(Class<?> componentType) {
+
+        List<ExecutionChain> chains = new ArrayList<>();
+
+        Set<Method> methods = streamExecutableMethods(componentType).collect(toSet());
+
+        for (ExecutionChain chain : executionChains.values()) {
+
+            Method method = chain.getMethod();
+
+            if (method.getDeclaringClass() != componentType && woven.contains(method.getDeclaringClass())) {
+                continue; // advised in place by the woven superclass
+            }
+
+            if (methods.contains(method) && !isInit(method) && !isNew(method)) {
+                chains.add(chain);
+            }
         }
+
+        chains.sort(comparing(chain -> chain.getMethod().toGenericString()));
+
+        return chains;
+
     }
 
     Map<String, Field> getAutowiring(Class<?> componentType) {
         return wireProxies.get(componentType);
     }
 
+    Map<Field, AutowireInterceptor> getAutowireChains(Class<?> componentType) {
+
+        Map<Field, AutowireInterceptor> chains = new LinkedHashMap<>();
+
+        for (Field field : getAutowiring(componentType).values()) {
+            chains.put(field, getAutowireChain(field));
+        }
+
+        return chains;
+
+    }
+
     boolean isAspect(Class<?> componentType) {
         return defined && aspects.contains(componentType);
     }
@@ -192,6 +379,14 @@ final class AdvisementLayer implements ExecutionInterceptor, AutowireInterceptor
         return defined && proxies.contains(componentType);
     }
 
+    boolean isWoven(Class<?> componentType) {
+        return defined && woven.contains(componentType);
+    }
+
+    void setWoven(Class<?> componentType) {
+        woven.add(componentType);
+    }
+
     boolean isInitProxy(Class<?> componentType) {
         return defined && initProxies.contains(componentType);
     }
@@ -331,29 +526,13 @@ final class AdvisementLayer implements ExecutionInterceptor, AutowireInterceptor
 
     private static Pointcut computePointcutExpression(String e) {
         try {
-            return pointcuts.compute(e, ($, p) -> nonNull(p) ? p : parse(e));
+            return parse(e);
         } catch (PointcutExpressionSyntaxError cause) {
             throw new IllegalContractException("@Around(%s) %s at position %d", cause.expression, cause.message, cause.position);
         }
     }
 
-    private static ExecutionInterceptor delayExecutionAdvice() {
-        return (callSide, component, method, args, proxy) -> proxy.invokeSuper(component, args);
-    }
-
-    private static AutowireInterceptor delayAjp(AutowireAdvisor advisor, AutowireInterceptor advice) {
-        return (component, field, dependency) -> advisor.advise(new AdvisedAutowireJoinPoint(component, field, dependency, advice));
-    }
-
-    private static AutowireInterceptor delayJp(AutowireAdvisor advisor) {
-        return (component, field, dependency) -> advisor.advise(new AutowireJoinPointImpl(component, field, dependency));
-    }
-
-    private static ExecutionInterceptor delayAjp(ExecutionAdvisor advisor, ExecutionInterceptor advice) {
-        return (callSide, component, method, args, proxy) -> advisor.advise(new AdvisedExecutionJoinPoint(callSide, component, method, proxy, advice, args));
-    }
-
-    private static ExecutionInterceptor delayJp(ExecutionAdvisor advisor) {
-        return (callSide, component, method, args, proxy) -> advisor.advise(new ExecutionJoinPointImpl(callSide, component, method, proxy, args));
+    private String getAdviceName(PrivilegedAdvisor advisor) {
+        return advisedBy.get(advisor).toGenericString();
     }
 }
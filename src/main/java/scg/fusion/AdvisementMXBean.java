@@ -0,0 +1,17 @@
+package scg.fusion;
+
+public interface AdvisementMXBean {
+
+    String[] getAspects();
+
+    String[] getDisabledAdvices();
+
+    void enableAspect(String aspectType);
+
+    void disableAspect(String aspectType);
+
+    void enableAdvice(String advice);
+
+    void disableAdvice(String advice);
+
+}
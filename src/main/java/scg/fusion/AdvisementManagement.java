@@ -0,0 +1,104 @@
+package scg.fusion;
+
+import scg.fusion.exceptions.IllegalContractException;
+
+import javax.management.ObjectName;
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import static java.lang.System.identityHashCode;
+
+final class AdvisementManagement implements AdvisementMXBean {
+
+    private static final char ADVICE_SEPARATOR = '#';
+
+    private final AdvisementLayer advisement;
+
+    private AdvisementManagement(AdvisementLayer advisement) {
+        this.advisement = advisement;
+    }
+
+    @Override
+    public String[] getAspects() {
+        return advisement.getAspectTypes().stream().map(Class::getName).sorted().toArray(String[]::new);
+    }
+
+    @Override
+    public String[] getDisabledAdvices() {
+        return advisement.getDisabledAdvices().stream().map(AdvisementManagement::getAdviceName).sorted().toArray(String[]::new);
+    }
+
+    @Override
+    public void enableAspect(String aspectType) {
+        advisement.setEnabled(resolveAspectType(aspectType), true);
+    }
+
+    @Override
+    public void disableAspect(String aspectType) {
+        advisement.setEnabled(resolveAspectType(aspectType), false);
+    }
+
+    @Override
+    public void enableAdvice(String advice) {
+        setEnabled(advice, true);
+    }
+
+    @Override
+    public void disableAdvice(String advice) {
+        setEnabled(advice, false);
+    }
+
+    static ObjectName register(AdvisementLayer advisement) {
+
+        if (advisement.getAspectTypes().isEmpty()) {
+            return (null);
+        }
+
+        return Management.register(new AdvisementManagement(advisement), "scg.fusion:type=Advisement,id=" + identityHashCode(advisement));
+
+    }
+
+    private void setEnabled(String advice, boolean enabled) {
+
+        int separator = advice.lastIndexOf(ADVICE_SEPARATOR);
+
+        if (separator < 0) {
+            throw new IllegalContractException("advice [%s] must be specified as <aspectType>%s<method>", advice, ADVICE_SEPARATOR);
+        }
+
+        String adviceName = advice.substring(separator + 1);
+
+        boolean found = false;
+
+        Set<Method> advices = advisement.getAdvices(resolveAspectType(advice.substring(0, separator)));
+
+        for (Method candidate : advices) {
+            if (candidate.getName().equals(adviceName)) {
+                advisement.setEnabled(candidate, enabled);
+                found = true;
+            }
+        }
+
+        if (!found) {
+            throw new IllegalContractException("unknown advice [%s]", advice);
+        }
+
+    }
+
+    private Class<?> resolveAspectType(String aspectTypeName) {
+
+        for (Class<?> aspectType : advisement.getAspectTypes()) {
+            if (aspectType.getName().equals(aspectTypeName)) {
+                return aspectType;
+            }
+        }
+
+        throw new IllegalContractException("[%s] is not an aspect", aspectTypeName);
+
+    }
+
+    private static String getAdviceName(Method advice) {
+        return advice.getDeclaringClass().getName() + ADVICE_SEPARATOR + advice.getName();
+    }
+
+}
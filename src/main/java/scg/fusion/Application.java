@@ -46,6 +46,7 @@ public abstract class Application implements ComponentDiscoveryService, Applicat
             context.byTypeStore.put(MessagePublisher.class,    contextInstance);
             context.byTypeStore.put(ComponentFactory.class,    contextInstance);
             context.byTypeStore.put(Autowiring.class,          contextInstance);
+            context.byTypeStore.put(Advisement.class,          contextInstance);
             context.byTypeStore.put(Environment.class,     environmentInstance);
         }
 
@@ -102,6 +103,7 @@ public abstract class Application implements ComponentDiscoveryService, Applicat
                 context.byTypeStore.put(MessagePublisher.class,     contextInstance);
                 context.byTypeStore.put(ComponentFactory.class,     contextInstance);
                 context.byTypeStore.put(Autowiring.class,           contextInstance);
+                context.byTypeStore.put(Advisement.class,           contextInstance);
                 context.byTypeStore.put(Environment.class,      environmentInstance);
             }
 
@@ -0,0 +1,65 @@
+package scg.fusion;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static java.util.Objects.isNull;
+
+final class AutowireChain implements AutowireInterceptor {
+
+    static final AutowireInterceptor PROCEED = ($, $$, dependency) -> dependency.getComponent();
+
+    private final Field field;
+
+    private final FieldJoint joint;
+
+    private final AutowireAdvisor[] advisors;
+
+    private final Predicate<AutowireAdvisor> enabled;
+
+    private volatile AutowireInterceptor entryPoint;
+
+    AutowireChain(Field field, List<AutowireAdvisor> advisors, Predicate<AutowireAdvisor> enabled) {
+
+        this.field    = field;
+        this.joint    = FieldJoint.of(field);
+        this.advisors = advisors.toArray(new AutowireAdvisor[0]);
+        this.enabled  = enabled;
+
+        refresh();
+
+    }
+
+    @Override
+    public Object intercept(Object component, Field field, ComponentProvider<?> dependency) {
+        return entryPoint.intercept(component, field, dependency);
+    }
+
+    Field getField() {
+        return field;
+    }
+
+    void refresh() {
+
+        AutowireInterceptor entryPoint = (null);
+
+        for (AutowireAdvisor advisor : advisors) {
+            if (enabled.test(advisor)) {
+                entryPoint = isNull(entryPoint) ? delayJp(advisor, joint) : delayAjp(advisor, joint, entryPoint);
+            }
+        }
+
+        this.entryPoint = isNull(entryPoint) ? PROCEED : entryPoint;
+
+    }
+
+    private static AutowireInterceptor delayAjp(AutowireAdvisor advisor, FieldJoint joint, AutowireInterceptor advice) {
+        return (component, field, dependency) -> advisor.advise(new AdvisedAutowireJoinPoint(component, field, joint, dependency, advice));
+    }
+
+    private static AutowireInterceptor delayJp(AutowireAdvisor advisor, FieldJoint joint) {
+        return (component, field, dependency) -> advisor.advise(new AutowireJoinPointImpl(component, field, joint, dependency));
+    }
+
+}
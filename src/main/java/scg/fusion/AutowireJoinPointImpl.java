@@ -9,20 +9,22 @@ import java.lang.reflect.Field;
 final class AutowireJoinPointImpl implements AutowireJoinPoint {
 
     private final Field                     field;
+    private final FieldJoint                joint;
     private final Object                component;
     private final ComponentProvider<?> dependency;
 
     private volatile Object dependencyComponent;
 
-    AutowireJoinPointImpl(Object component, Field field, ComponentProvider<?> dependency) {
+    AutowireJoinPointImpl(Object component, Field field, FieldJoint joint, ComponentProvider<?> dependency) {
         this.field      =      field;
+        this.joint      =      joint;
         this.component  =  component;
         this.dependency = dependency;
     }
 
     @Override
     public FieldJoint dissect() {
-        return new FieldJoint(field);
+        return joint;
     }
 
     @Override
@@ -0,0 +1,25 @@
+package scg.fusion;
+
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+final class BatchListenerHandle implements MessageListenerHandle {
+
+    final MessageListenerHandle handle;
+
+    final int maxBatchSize;
+
+    final long lingerNanos;
+
+    BatchListenerHandle(MessageListenerHandle handle, int maxBatchSize, long maxLinger) {
+        this.handle       = handle;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos  = MILLISECONDS.toNanos(maxLinger);
+    }
+
+    @Override
+    public void notify(Object message) {
+        handle.notify(singletonList(message));
+    }
+
+}
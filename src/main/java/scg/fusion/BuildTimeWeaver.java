@@ -0,0 +1,61 @@
+package scg.fusion;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import scg.fusion.annotation.Woven;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.objectweb.asm.Type.getInternalName;
+
+public final class BuildTimeWeaver {
+
+    private static final Logger log = LoggerFactory.getLogger(BuildTimeWeaver.class);
+
+    private BuildTimeWeaver() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static void main(String... args) throws Exception {
+
+        if (args.length != 2) {
+            throw new IllegalArgumentException("usage: BuildTimeWeaver <classes directory> <discovery service class>");
+        }
+
+        Path classes = Paths.get(args[0]);
+
+        ClassLoader contextClassLoader = (Thread.currentThread()).getContextClassLoader();
+
+        ComponentDiscoveryService discoveryService = Class.forName(args[1], true, contextClassLoader)
+                .asSubclass(ComponentDiscoveryService.class)
+                .getDeclaredConstructor()
+                .newInstance();
+
+        Set<Class<?>> componentTypes = new HashSet<>();
+
+        discoveryService.discover(componentTypes::add);
+
+        Map<Class<?>, Map<Method, Boolean>> executions = AdvisementLayer.listAdvisedExecutions(componentTypes);
+
+        for (Class<?> componentType : executions.keySet()) {
+
+            Path classFile = classes.resolve(getInternalName(componentType) + ".class");
+
+            if (!Files.isRegularFile(classFile) || componentType.isAnnotationPresent(Woven.class)) {
+                continue;
+            }
+
+            Files.write(classFile, ExecutionWeaver.weave(Files.readAllBytes(classFile), executions.get(componentType)));
+
+            log.info("Woven [{}] executions of [{}]", executions.get(componentType).size(), componentType);
+
+        }
+    }
+
+}
@@ -1,5 +1,5 @@
 package scg.fusion;
 
 public interface ComponentActor {
-    Runnable receive(MessageImpl message);
+    boolean receive(MessageImpl message, MessageListenerHandle[] handles, ActorRoute route, long position, DeliveryReceipt receipt);
 }
@@ -1,161 +1,568 @@
 package scg.fusion;
 
-import java.lang.reflect.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import scg.fusion.exceptions.IllegalContractException;
+import scg.fusion.exceptions.MailboxOverflowException;
 
 import java.util.*;
 
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.function.Function;
-import java.util.stream.Stream;
 
-import static java.util.Collections.*;
+import java.util.function.Supplier;
+
+import static java.lang.System.nanoTime;
+import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
-import static java.util.concurrent.Executors.newFixedThreadPool;
-import static java.util.stream.Collectors.toSet;
-import static java.util.stream.Stream.concat;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static scg.fusion.MailboxOverflow.*;
+import static scg.fusion.TopicJournal.NO_POSITION;
+
+final class ComponentActorImpl implements ComponentActor, Runnable {
+
+    static final int DEFAULT_MAILBOX_CAPACITY = 1024;
+
+    static final int DEFAULT_MAILBOX_THROUGHPUT = 64;
+
+    static final int DEFAULT_DLQ_CAPACITY = 1024;
+
+    private static final Logger log = LoggerFactory.getLogger(ComponentActorImpl.class);
+
+    // a drainer blocked on another full mailbox holds a dispatcher thread its drainer may need, so it never waits
+    private static final ThreadLocal<ComponentActorImpl> draining = new ThreadLocal<>();
+
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private final Mailbox<Delivery> mailbox;
+
+    private final int throughput;
+
+    private final Queue<Delivery> redeliveries = new ConcurrentLinkedQueue<>();
+
+    private final Map<MessageListenerHandle, RedeliveryPolicy> redeliveryPolicies;
+
+    private final ReentrantLock overflowLock = new ReentrantLock();
 
-final class ComponentActorImpl implements ComponentActor {
+    private final Condition notFull = overflowLock.newCondition();
 
+    private final Supplier<TimerWheel> timer;
 
-    private final ReentrantLock receiveLock = new ReentrantLock();
+    private final Map<BatchListenerHandle, Batch> batches = new IdentityHashMap<>();
 
-    private final Queue<MessageImpl> messages = new ConcurrentLinkedQueue<>();
+    private final Queue<Batch> lingering = new ConcurrentLinkedQueue<>();
 
+    private final List<Batch> unlingered = new ArrayList<>();
 
-    private final Set<DeadLetterImpl> dlq;
+    private final String name;
+
+    private final Queue<DeadLetterImpl> dlq;
+
+    private final int dlqCapacity;
 
     private final MessageListenerHandle dlqHandle;
 
-    private final Map<String, Map<Type, Set<MessageListenerHandle>>> handles;
+    private long dlqOverflows;
+
+    private long totalDlqOverflows;
+
+    private volatile Executor dispatcher;
 
+    private volatile int blocked;
+
+    ComponentActorImpl(String name, int capacity, int throughput, MessageListenerHandle dlqHandle, int dlqCapacity, Map<MessageListenerHandle, RedeliveryPolicy> redeliveryPolicies, Supplier<TimerWheel> timer) {
+
+        if (capacity <= 0 || throughput <= 0 || dlqCapacity <= 0) {
+            throw new IllegalContractException("mailbox capacity [%d], throughput [%d] and dlq capacity [%d] of [%s] must be positive", capacity, throughput, dlqCapacity, name);
+        }
+
+        this.name               = name;
+        this.mailbox            = new Mailbox<>(capacity);
+        this.throughput         = throughput;
+        this.dlqHandle          = dlqHandle;
+        this.dlqCapacity        = dlqCapacity;
+        this.dlq                = isNull(dlqHandle) ? (null) : (new ArrayDeque<>());
+        this.redeliveryPolicies = redeliveryPolicies;
+        this.timer              = timer;
 
-    ComponentActorImpl(Map<String, Map<Type, Set<MessageListenerHandle>>> handles, MessageListenerHandle dlqHandle) {
-        this.handles = handles;
-        this.dlqHandle = dlqHandle;
-        this.dlq = isNull(dlqHandle) ? (null) : (new LinkedHashSet<>());
     }
 
     @Override
-    public Runnable receive(MessageImpl message) {
+    public boolean receive(MessageImpl message, MessageListenerHandle[] handles, ActorRoute route, long position, DeliveryReceipt receipt) {
+
+        if (isNull(message)) {
+            return false;
+        }
 
-        this.appendMessage(message);
+        Delivery delivery = new Delivery(message, handles, route, position, receipt, 1);
 
-        return () -> {
+        MailboxOverflow overflow = route.overflow;
 
-            if (receiveLock.tryLock()) try {
+        long deadline = overflow.isTimed() ? (nanoTime() + overflow.timeoutNanos) : 0L;
 
-                for (MessageImpl receivedMessage : drainQueue()) {
+        while (!mailbox.offer(delivery)) {
 
-                    for (MessageListenerHandle handle : listHandles(receivedMessage)) {
-                        try {
-                            handle.notify(receivedMessage);
-                        } catch (Throwable cause) {
-                            this.appendDlq(receivedMessage, cause);
-                        }
+            switch (overflow.strategy) {
+                case DROP_NEWEST:
+                    return delivery.drop();
+                case DROP_OLDEST:
+                    Delivery oldest = this.poll();
+                    if (nonNull(oldest)) {
+                        oldest.drop();
                     }
+                    continue;
+                case BLOCK:
+                    if (nonNull(draining.get())) {
+                        return overflow(delivery, "mailbox of capacity [%d] is full and cannot be awaited by a listener", mailbox.capacity());
+                    }
+                    if (overflow.isTimed() && nanoTime() - deadline >= 0L) {
+                        return overflow(delivery, "mailbox of capacity [%d] stayed full for [%s]", mailbox.capacity(), overflow);
+                    }
+                    break;
+                default:
+                    return overflow(delivery, "mailbox of capacity [%d] is full", mailbox.capacity());
+            }
+
+            this.schedule(route.dispatcher);
+
+            if (!this.awaitNotFull(overflow.isTimed(), deadline)) {
+                return overflow(delivery, "mailbox of capacity [%d] was awaited by an interrupted publisher", mailbox.capacity());
+            }
+
+        }
+
+        this.schedule(route.dispatcher);
+
+        return true;
+
+    }
+
+    @Override
+    public void run() {
+
+        ComponentActorImpl outer = draining.get();
+
+        draining.set(this);
+
+        try {
+
+            Delivery delivery;
+
+            int processed = 0;
+
+            // due redeliveries go first, a saturated mailbox would starve them and hold the journal cursor back
+            for (; processed < throughput && nonNull(delivery = redeliveries.poll()); processed++) {
+                this.process(delivery);
+            }
+
+            for (; processed < throughput && nonNull(delivery = this.poll()); processed++) {
+                this.process(delivery);
+            }
+
+            Batch batch;
+
+            while (nonNull(batch = lingering.poll())) {
+                if (batch.isExpired()) {
+                    this.flush(batch);
                 }
+            }
 
-                for (DeadLetterImpl deadLetter : drainDlq()) {
-                    try {
-                        dlqHandle.notify(deadLetter);
-                    } catch (Throwable cause) {
-                        cause.printStackTrace();
-                    }
+            for (Batch unlingeredBatch : unlingered) {
+                this.flush(unlingeredBatch);
+            }
+
+            unlingered.clear();
+
+            this.drainDlq();
+
+        } finally {
+
+            draining.set(outer);
+
+            scheduled.set(false);
+
+            if (!mailbox.isEmpty() || !redeliveries.isEmpty() || !lingering.isEmpty()) {
+                this.schedule(dispatcher);
+            }
+        }
+    }
+
+    private void process(Delivery delivery) {
+
+        MessageImpl receivedMessage = delivery.message;
+
+        for (MessageListenerHandle handle : delivery.handles) {
+
+            if (handle instanceof BatchListenerHandle) {
+                this.batch((BatchListenerHandle) handle, delivery);
+                continue;
+            }
+
+            try {
+
+                handle.notify(receivedMessage);
+
+                delivery.handled = true;
+
+            } catch (Throwable cause) {
+
+                RedeliveryPolicy policy = redeliveryPolicies.get(handle);
+
+                if (nonNull(policy) && policy.shouldRedeliver(delivery.attempt, cause)) {
+                    this.redeliver(delivery, handle, policy);
+                } else {
+                    this.appendDlq(receivedMessage, delivery.failure = cause, delivery.attempt);
                 }
+            }
+        }
 
-            } finally {
-                receiveLock.unlock();
+        if (--delivery.pending == 0) {
+            this.finish(delivery);
+        }
+    }
+
+    private void batch(BatchListenerHandle handle, Delivery delivery) {
+
+        Batch batch = batches.computeIfAbsent(handle, Batch::new);
+
+        delivery.pending++;
+
+        if (batch.deliveries.isEmpty()) {
+            if (handle.lingerNanos > 0L) {
+
+                long generation = batch.generation;
+
+                Executor dispatcher = delivery.route.dispatcher;
+
+                timer.get().schedule(() -> {
+
+                    batch.expiredGeneration = generation;
+
+                    lingering.add(batch);
+
+                    this.schedule(dispatcher);
+
+                }, handle.lingerNanos, NANOSECONDS);
+
+            } else {
+                unlingered.add(batch);
             }
-        };
+        }
+
+        batch.deliveries.add(delivery);
+
+        if (batch.deliveries.size() >= handle.maxBatchSize) {
+            this.flush(batch);
+        }
     }
 
-    private Set<MessageListenerHandle> listHandles(MessageImpl message) {
-        return message.tags.stream().flatMap(streamHandlesByTag(message.type)).collect(toSet());
+    private void flush(Batch batch) {
+
+        if (batch.deliveries.isEmpty()) {
+            return;
+        }
+
+        List<Delivery> deliveries = batch.deliveries;
+
+        List<MessageImpl> messages = new ArrayList<>(deliveries.size());
+
+        for (Delivery delivery : deliveries) {
+            messages.add(delivery.message);
+        }
+
+        batch.deliveries = new ArrayList<>();
+
+        batch.generation++;
+
+        Throwable failure = (null);
+
+        try {
+            batch.handle.handle.notify(unmodifiableList(messages));
+        } catch (Throwable cause) {
+            failure = cause;
+        }
+
+        for (Delivery delivery : deliveries) {
+
+            if (isNull(failure)) {
+                delivery.handled = true;
+            } else {
+                this.appendDlq(delivery.message, failure, delivery.attempt);
+
+                if (isNull(delivery.failure)) {
+                    delivery.failure = failure;
+                }
+            }
+
+            if (--delivery.pending == 0) {
+                this.finish(delivery);
+            }
+        }
     }
 
-    private Iterable<MessageImpl> drainQueue() {
-        return new Iterable<MessageImpl>() {
-            @Override
-            public Iterator<MessageImpl> iterator() {
-                return new Iterator<MessageImpl>() {
+    private void finish(Delivery delivery) {
 
-                    MessageImpl next;
+        Delivery origin = delivery.origin;
 
-                    @Override
-                    public boolean hasNext() {
-                        return nonNull(next = messages.poll());
-                    }
+        // a redelivery reports to the delivery it retries, which completes and settles once every attempt is over
+        if (origin != delivery) {
 
-                    @Override
-                    public MessageImpl next() {
-                        return next;
-                    }
+            origin.handled |= delivery.handled;
+
+            if (isNull(origin.failure)) {
+                origin.failure = delivery.failure;
+            }
 
-                };
+            if (--origin.pending == 0) {
+                this.finish(origin);
             }
-        };
+
+            return;
+        }
+
+        // settled first, so a publisher whose receipt completes sees the cursor past it
+        delivery.settle();
+
+        delivery.complete();
+
     }
 
-    private Iterable<DeadLetterImpl> drainDlq() {
+    private void redeliver(Delivery delivery, MessageListenerHandle handle, RedeliveryPolicy policy) {
+
+        Delivery redelivery = new Delivery(delivery.origin, handle, delivery.attempt + 1);
+
+        redelivery.origin.pending++;
+
+        timer.get().schedule(() -> {
+
+            redeliveries.add(redelivery);
+
+            this.schedule(redelivery.route.dispatcher);
+
+        }, policy.getDelayNanos(delivery.attempt), NANOSECONDS);
+
+    }
+
+    private Delivery poll() {
+
+        Delivery delivery = mailbox.poll();
 
-        if (nonNull(dlqHandle) && !dlq.isEmpty()) {
-            return new Iterable<DeadLetterImpl>() {
-                @Override
-                public Iterator<DeadLetterImpl> iterator() {
-                    return new Iterator<DeadLetterImpl>() {
+        // the slot is freed before the waiters are read, and a waiter registers before it re-checks the mailbox
+        if (nonNull(delivery) && blocked > 0) {
 
-                        final Iterator<DeadLetterImpl> underlying = dlq.iterator();
+            overflowLock.lock();
 
-                        @Override
-                        public boolean hasNext() {
+            try {
+                notFull.signalAll();
+            } finally {
+                overflowLock.unlock();
+            }
+        }
 
-                            boolean hasNext = underlying.hasNext();
+        return delivery;
 
-                            if (!hasNext) {
-                                dlq.clear();
-                            }
+    }
 
-                            return hasNext;
+    private boolean awaitNotFull(boolean timed, long deadline) {
 
-                        }
+        overflowLock.lock();
 
-                        @Override
-                        public DeadLetterImpl next() {
-                            return underlying.next();
-                        }
+        try {
 
-                    };
+            blocked++;
+
+            try {
+
+                while (mailbox.size() >= mailbox.capacity()) {
+                    if (!timed) {
+                        notFull.await();
+                    } else if (notFull.awaitNanos(deadline - nanoTime()) <= 0L) {
+                        break;
+                    }
                 }
-            };
+
+                return true;
+
+            } finally {
+                blocked--;
+            }
+
+        } catch (InterruptedException cause) {
+
+            Thread.currentThread().interrupt();
+
+            return false;
+
+        } finally {
+            overflowLock.unlock();
         }
 
-        return Collections::emptyIterator;
+    }
+
+    private void schedule(Executor dispatcher) {
+        if (scheduled.compareAndSet(false, true)) {
+
+            this.dispatcher = dispatcher;
+
+            try {
+                dispatcher.execute(this);
+            } catch (RuntimeException cause) {
+                scheduled.set(false);
+                throw cause;
+            }
+        }
+    }
+
+    private void drainDlq() {
+
+        if (nonNull(dlqHandle)) {
+
+            DeadLetterImpl deadLetter;
 
+            while (nonNull(deadLetter = dlq.poll())) {
+                try {
+                    dlqHandle.notify(deadLetter);
+                } catch (Throwable cause) {
+                    log.warn("Dead letter of [{}] cannot be handled", name, cause);
+                }
+            }
+
+            if (dlqOverflows > 0) {
+
+                totalDlqOverflows += dlqOverflows;
+
+                log.warn("Dead letter queue of [{}] overflowed: [{}] dead letters discarded ([{}] in total)", name, dlqOverflows, totalDlqOverflows);
+
+                dlqOverflows = 0;
+            }
+        }
     }
 
-    private void appendMessage(MessageImpl message) {
-        if (nonNull(message)) {
-            messages.add(message);
+    private static boolean overflow(Delivery delivery, String message, Object...args) {
+
+        MailboxOverflowException cause = new MailboxOverflowException(message, args);
+
+        delivery.settle();
+
+        if (isNull(delivery.receipt)) {
+            throw cause;
         }
+
+        delivery.receipt.failed(cause);
+
+        return false;
+
     }
 
-    private void appendDlq(MessageImpl message, Throwable cause) {
+    private void appendDlq(MessageImpl message, Throwable cause, int attempts) {
         if (nonNull(dlqHandle)) {
-            dlq.add(new DeadLetterImpl(cause, message));
+            if (dlq.size() < dlqCapacity) {
+                dlq.add(new DeadLetterImpl(cause, message, attempts));
+            } else {
+                dlqOverflows++;
+            }
         }
     }
 
-    private Function<String, Stream<MessageListenerHandle>> streamHandlesByTag(Type messageType) {
-        return tag -> {
+    private static final class Batch {
+
+        final BatchListenerHandle handle;
+
+        List<Delivery> deliveries = new ArrayList<>();
+
+        long generation;
+
+        volatile long expiredGeneration = -1L;
+
+        Batch(BatchListenerHandle handle) {
+            this.handle = handle;
+        }
+
+        boolean isExpired() {
+            return expiredGeneration == generation;
+        }
+
+    }
+
+    private static final class Delivery {
 
-            Map<Type, Set<MessageListenerHandle>> byTypeHandles = handles.getOrDefault(tag, emptyMap());
+        final MessageImpl message;
 
-            return concat(byTypeHandles.getOrDefault(messageType, emptySet()).stream(), byTypeHandles.getOrDefault(Object.class, emptySet()).stream());
+        final MessageListenerHandle[] handles;
+
+        final ActorRoute route;
+
+        final long position;
+
+        final DeliveryReceipt receipt;
+
+        final int attempt;
+
+        final Delivery origin;
+
+        int pending = 1;
+
+        Throwable failure;
+
+        boolean handled;
+
+        Delivery(MessageImpl message, MessageListenerHandle[] handles, ActorRoute route, long position, DeliveryReceipt receipt, int attempt) {
+            this.message  = message;
+            this.handles  = handles;
+            this.route    = route;
+            this.position = position;
+            this.receipt  = receipt;
+            this.attempt  = attempt;
+            this.origin   = this;
+        }
+
+        Delivery(Delivery origin, MessageListenerHandle handle, int attempt) {
+            this.message  = origin.message;
+            this.handles  = new MessageListenerHandle[] { handle };
+            this.route    = origin.route;
+            this.position = NO_POSITION;
+            this.receipt  = (null);
+            this.attempt  = attempt;
+            this.origin   = origin;
+        }
+
+        boolean drop() {
+
+            this.settle();
+
+            if (nonNull(receipt)) {
+                receipt.dropped();
+            }
+
+            return false;
+
+        }
+
+        // the journal cursor moves once every position before this one is settled as well, whatever the order
+        void settle() {
+            if (position != NO_POSITION) {
+                route.cursor.ack(position);
+            }
+        }
+
+        void complete() {
+            if (nonNull(receipt)) {
+                if (nonNull(failure)) {
+                    receipt.failed(failure);
+                } else if (handled) {
+                    receipt.delivered();
+                } else {
+                    receipt.dropped();
+                }
+            }
+        }
 
-        };
     }
 
 }
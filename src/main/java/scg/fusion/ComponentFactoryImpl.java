@@ -1,11 +1,15 @@
 package scg.fusion;
 
+import org.objectweb.asm.Type;
 import scg.fusion.cglib.core.DefaultGeneratorStrategy;
 import scg.fusion.cglib.core.DefaultNamingPolicy;
+import scg.fusion.cglib.core.Signature;
 import scg.fusion.cglib.proxy.Enhancer;
+import scg.fusion.cglib.proxy.MethodProxy;
 import scg.fusion.exceptions.IllegalContractException;
 import scg.fusion.exceptions.PointcutExpressionSyntaxError;
 
+import javax.management.ObjectName;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -19,7 +23,9 @@ import static java.lang.String.format;
 import static java.lang.reflect.Modifier.isAbstract;
 import static java.lang.reflect.Modifier.isStatic;
 
+import static java.util.Comparator.comparingInt;
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static scg.fusion.ComponentScopeService.newAspectScope;
@@ -31,7 +37,7 @@ import static scg.fusion.Utils.*;
 import static scg.fusion.Verification.listVerifiedFactories;
 import static scg.fusion.cglib.proxy.Enhancer.registerStaticCallbacks;
 
-class ComponentFactoryImpl extends MessageBrokerImpl implements ComponentFactory, LifecycleListener {
+class ComponentFactoryImpl extends MessageBrokerImpl implements ComponentFactory, Advisement, LifecycleListener {
 
     boolean override = false;
 
@@ -43,6 +49,10 @@ class ComponentFactoryImpl extends MessageBrokerImpl implements ComponentFactory
 
     final Environment environment;
 
+    private final Set<Class<?>> woven = new HashSet<>();
+
+    private ObjectName management;
+
     private ComponentFactoryImpl(AdvisementLayer advisement, Environment environment) {
         this.advisement = advisement;
         this.environment = environment;
@@ -52,7 +62,9 @@ class ComponentFactoryImpl extends MessageBrokerImpl implements ComponentFactory
 
         this.environment = environment;
 
-        this.advisement = new AdvisementLayer(componentTypes, this);
+        this.advisement = new AdvisementLayer(componentTypes, this, Specializations.of(environment));
+
+        weave(componentTypes);
 
         for (Class<?> componentType : componentTypes) {
 
@@ -64,32 +76,20 @@ class ComponentFactoryImpl extends MessageBrokerImpl implements ComponentFactory
 
             Constructor<?> constructor = getPrimaryConstructor(componentType); // FIXME
 
-            if (advisement.isProxy(componentType)) {
-
-                Enhancer enhancer = new Enhancer();
-
-                enhancer.setUseFactory(false);
-                enhancer.setSuperclass(componentType);
-                enhancer.setInterceptDuringConstruction(true);
-                enhancer.setExecutionInterceptorCallbackType();
-                enhancer.setInterfaces(componentType.getInterfaces());
-                enhancer.setNamingPolicy(DefaultNamingPolicy.INSTANCE);
-                enhancer.setStrategy(DefaultGeneratorStrategy.INSTANCE);
-
-                Class enhancedComponentType = enhancer.createClass();
+            if (advisement.isProxy(componentType) && !advisement.isWoven(componentType)) {
 
-                registerStaticCallbacks(enhancedComponentType, advisement.callbacks);
+                Class<?> enhancedComponentType = enhance(componentType, advisement.getExecutionCallbacks(componentType));
 
                 scopeService = newScope(componentType);
 
                 if (advisement.isNewProxy(componentType)) {
-                    scopeService.componentAllocator = newAllocator(advisement, advisement.toNewMethod(constructor), enhancedComponentType);
+                    scopeService.componentAllocator = newAllocator(advisement.getExecutionChain(advisement.toNewMethod(constructor)), advisement.toNewMethod(constructor), enhancedComponentType);
                 } else {
                     scopeService.componentAllocator = newAllocator(enhancedComponentType);
                 }
 
                 if (advisement.isInitProxy(componentType)) {
-                    scopeService.componentService = newComponentService(advisement, advisement.toInitMethod(constructor), enhancedComponentType, this.environment, this);
+                    scopeService.componentService = newComponentService(advisement.getExecutionChain(advisement.toInitMethod(constructor)), advisement.toInitMethod(constructor), enhancedComponentType, this.environment, this);
                 } else {
                     scopeService.componentService = newComponentService(constructor, enhancedComponentType, this.environment, this);
                 }
@@ -103,20 +103,20 @@ class ComponentFactoryImpl extends MessageBrokerImpl implements ComponentFactory
                 scopeService = newScope(componentType);
 
                 if (advisement.isNewProxy(componentType)) {
-                    scopeService.componentAllocator = newAllocator(advisement, advisement.toNewMethod(constructor), componentType);
+                    scopeService.componentAllocator = newAllocator(advisement.getExecutionChain(advisement.toNewMethod(constructor)), advisement.toNewMethod(constructor), componentType);
                 } else {
                     scopeService.componentAllocator = newAllocator(componentType);
                 }
 
                 if (advisement.isInitProxy(componentType)) {
-                    scopeService.componentService = newComponentService(advisement, advisement.toInitMethod(constructor), componentType, this.environment, this);
+                    scopeService.componentService = newComponentService(advisement.getExecutionChain(advisement.toInitMethod(constructor)), advisement.toInitMethod(constructor), componentType, this.environment, this);
                 } else {
                     scopeService.componentService = newComponentService(constructor, componentType, this.environment, this);
                 }
             }
 
             if (advisement.isWireProxy(componentType)) {
-                scopeService.componentAutowiring = newComponentWiring(componentType, advisement, advisement.getAutowiring(componentType), this);
+                scopeService.componentAutowiring = newComponentWiring(componentType, advisement.getAutowireChains(componentType), this);
             } else {
                 scopeService.componentAutowiring = newComponentWiring(componentType, this);
             }
@@ -132,6 +132,15 @@ class ComponentFactoryImpl extends MessageBrokerImpl implements ComponentFactory
 
         advisement.close();
 
+        freezeRoutes();
+
+        this.management = AdvisementManagement.register(advisement);
+
+    }
+
+    @Override
+    Environment getEnvironment() {
+        return environment;
     }
 
     @Override
@@ -182,13 +191,13 @@ class ComponentFactoryImpl extends MessageBrokerImpl implements ComponentFactory
 
             if (matcher.isExecution()) {
                 for (Method by : filterMethods(this, matcher)) {
-                    autowiring.put(new MethodJoint(by), newAutowiringHook(by, this));
+                    autowiring.put(MethodJoint.of(by), newAutowiringHook(by, this));
                 }
             }
 
             if (matcher.isAutowire()) {
                 for (Field at : filterFields(this, matcher)) {
-                    autowiring.put(new FieldJoint(at), newAutowiringHook(advisement, at, this));
+                    autowiring.put(FieldJoint.of(at), newAutowiringHook(advisement.getAutowireChain(at), at, this));
                 }
             }
 
@@ -198,6 +207,31 @@ class ComponentFactoryImpl extends MessageBrokerImpl implements ComponentFactory
         }
     }
 
+    @Override
+    public void enable(Class<?> aspectType) {
+        advisement.setEnabled(aspectType, true);
+    }
+
+    @Override
+    public void disable(Class<?> aspectType) {
+        advisement.setEnabled(aspectType, false);
+    }
+
+    @Override
+    public void enable(Method advice) {
+        advisement.setEnabled(advice, true);
+    }
+
+    @Override
+    public void disable(Method advice) {
+        advisement.setEnabled(advice, false);
+    }
+
+    @Override
+    public boolean isEnabled(Method advice) {
+        return advisement.isEnabled(advice);
+    }
+
     @Override
     public boolean hasComponent(Class<?> expectedType) {
         return byTypeStore.containsKey(expectedType);
@@ -279,6 +313,7 @@ class ComponentFactoryImpl extends MessageBrokerImpl implements ComponentFactory
         Set<ComponentScope> lifecycle = new HashSet<>(byTypeStore.values());
         lifecycle.forEach(LifecycleListener::onLoad);
         lifecycle.forEach(scope -> scope.afterLoad(this));
+        this.replayJournals();
     }
 
     @Override
@@ -289,6 +324,59 @@ class ComponentFactoryImpl extends MessageBrokerImpl implements ComponentFactory
     @Override
     public void close() {
         this.onClose();
+        this.closeMessaging();
+        Management.unregister(management);
+        this.management = (null);
+        this.woven.forEach(ExecutionWeaver::unweave);
+        this.woven.clear();
+    }
+
+    private void weave(Set<Class<?>> componentTypes) {
+
+        List<Class<?>> proxies = componentTypes.stream().filter(advisement::isProxy).collect(toList());
+
+        // superclasses first, a woven superclass advises the executions its subclasses inherit
+        proxies.sort(comparingInt(Utils::countSuperclasses));
+
+        for (Class<?> componentType : proxies) {
+
+            List<ExecutionChain> chains = advisement.getExecutionChains(componentType);
+
+            if (chains.isEmpty() || ExecutionWeaver.weave(componentType, chains)) {
+                advisement.setWoven(componentType);
+                woven.add(componentType);
+            }
+        }
+    }
+
+    static Class<?> enhance(Class<?> componentType, ExecutionCallbacks callbacks) {
+
+        Enhancer enhancer = new Enhancer();
+
+        enhancer.setUseFactory(false);
+        enhancer.setSuperclass(componentType);
+        enhancer.setInterceptDuringConstruction(true);
+        enhancer.setCallbackFilter(callbacks);
+        enhancer.setCallbackTypes(callbacks.callbackTypes);
+        enhancer.setInterfaces(componentType.getInterfaces());
+        enhancer.setNamingPolicy(DefaultNamingPolicy.INSTANCE);
+        enhancer.setStrategy(DefaultGeneratorStrategy.INSTANCE);
+
+        Class<?> enhancedComponentType = enhancer.createClass();
+
+        registerStaticCallbacks(enhancedComponentType, callbacks.callbacks);
+
+        for (Method method : callbacks.getMethods()) {
+
+            MethodProxy methodProxy = MethodProxy.find(enhancedComponentType, new Signature(method.getName(), Type.getMethodDescriptor(method)));
+
+            if (nonNull(methodProxy)) {
+                methodProxy.setSuperInvoker(newSuperInvoker(enhancedComponentType, method, methodProxy.getSuperName()));
+            }
+        }
+
+        return enhancedComponentType;
+
     }
 
     private void registerFactories(ComponentScope componentScope, Class<?> componentType) {
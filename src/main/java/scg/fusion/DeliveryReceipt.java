@@ -0,0 +1,63 @@
+package scg.fusion;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Objects.isNull;
+
+final class DeliveryReceipt {
+
+    private final CompletableFuture<Boolean> completion = new CompletableFuture<>();
+
+    private final AtomicInteger pending = new AtomicInteger(1);
+
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private volatile boolean delivered;
+
+    void expect() {
+        pending.incrementAndGet();
+    }
+
+    void delivered() {
+        delivered = true;
+        release();
+    }
+
+    void journaled() {
+        delivered = true;
+    }
+
+    void dropped() {
+        release();
+    }
+
+    void failed(Throwable cause) {
+        failure.compareAndSet(null, cause);
+        release();
+    }
+
+    CompletionStage<Boolean> seal() {
+
+        release();
+
+        return completion;
+
+    }
+
+    private void release() {
+        if (pending.decrementAndGet() == 0) {
+
+            Throwable cause = failure.get();
+
+            if (isNull(cause)) {
+                completion.complete(delivered);
+            } else {
+                completion.completeExceptionally(cause);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package scg.fusion;
+
+public interface DispatcherMXBean {
+
+    String getName();
+
+    String getType();
+
+    int getParallelism();
+
+    int getPoolSize();
+
+    int getActiveThreads();
+
+    long getQueueDepth();
+
+    double getUtilization();
+
+}
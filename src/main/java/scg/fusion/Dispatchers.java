@@ -0,0 +1,230 @@
+package scg.fusion;
+
+import scg.fusion.exceptions.IllegalContractException;
+
+import javax.management.ObjectName;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.String.format;
+import static java.lang.System.identityHashCode;
+import static java.util.Objects.isNull;
+import static java.util.concurrent.ForkJoinPool.commonPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static scg.fusion.Utils.*;
+
+final class Dispatchers implements AutoCloseable {
+
+    static final String DEFAULT_DISPATCHER_NAME = "default";
+
+    static final String COMMON        = "common";
+    static final String WORK_STEALING = "work-stealing";
+    static final String BOUNDED       = "bounded";
+
+    private final Environment environment;
+
+    private final String defaultDispatcherName;
+
+    private final Map<String, Dispatcher> dispatchers = new HashMap<>();
+
+    Dispatchers(Environment environment) {
+
+        String defaultDispatcherName = environment.getProperty(MESSAGING_DISPATCHER_PROPERTY_NAME);
+
+        this.environment           = environment;
+        this.defaultDispatcherName = isNull(defaultDispatcherName) ? DEFAULT_DISPATCHER_NAME : defaultDispatcherName;
+
+    }
+
+    synchronized Dispatcher get(String topic, String dispatcherName) {
+
+        String configuredDispatcherName = environment.getProperty(format(MESSAGING_TOPIC_DISPATCHER_PROPERTY_NAME, topic));
+
+        if (isNull(configuredDispatcherName)) {
+            configuredDispatcherName = dispatcherName.isEmpty() ? defaultDispatcherName : dispatcherName;
+        }
+
+        return dispatchers.computeIfAbsent(configuredDispatcherName, this::newDispatcher);
+
+    }
+
+    @Override
+    public synchronized void close() {
+
+        for (Dispatcher dispatcher : dispatchers.values()) {
+            dispatcher.close();
+        }
+
+        dispatchers.clear();
+
+    }
+
+    private Dispatcher newDispatcher(String name) {
+
+        String type = environment.getProperty(format(MESSAGING_DISPATCHER_TYPE_PROPERTY_NAME, name));
+
+        if (isNull(type)) {
+            type = DEFAULT_DISPATCHER_NAME.equals(name) ? COMMON : WORK_STEALING;
+        }
+
+        int parallelism = environment.getIntOrDefault(format(MESSAGING_DISPATCHER_PARALLELISM_PROPERTY_NAME, name), availableThreads);
+
+        ExecutorService executor;
+
+        switch (type) {
+            case COMMON:
+                executor = commonPool();
+                break;
+            case WORK_STEALING:
+                executor = new ForkJoinPool(parallelism, newWorkerThreadFactory(name), (null), true);
+                break;
+            case BOUNDED:
+                // an actor is queued at most once, so the queue never outgrows the actors and back-pressure is left to their mailboxes
+                executor = new ThreadPoolExecutor(parallelism, parallelism, 60, SECONDS, new LinkedBlockingQueue<>(), newThreadFactory(name));
+                break;
+            default:
+                throw new IllegalContractException("unknown dispatcher type [%s] of [%s] (must be one of %s, %s, %s)", type, name, COMMON, WORK_STEALING, BOUNDED);
+        }
+
+        Dispatcher dispatcher = new Dispatcher(name, type, executor);
+
+        dispatcher.management = Management.register(dispatcher, format("scg.fusion:type=Dispatcher,name=%s,id=%d", ObjectName.quote(name), identityHashCode(this)));
+
+        return dispatcher;
+
+    }
+
+    private static ForkJoinPool.ForkJoinWorkerThreadFactory newWorkerThreadFactory(String name) {
+
+        AtomicInteger counter = new AtomicInteger();
+
+        return pool -> {
+
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+
+            thread.setName(format("fusion-dispatcher-%s-%d", name, counter.incrementAndGet()));
+            thread.setDaemon(true);
+
+            return thread;
+
+        };
+    }
+
+    private static ThreadFactory newThreadFactory(String name) {
+
+        AtomicInteger counter = new AtomicInteger();
+
+        return task -> {
+
+            Thread thread = new Thread(task, format("fusion-dispatcher-%s-%d", name, counter.incrementAndGet()));
+
+            thread.setDaemon(true);
+
+            return thread;
+
+        };
+    }
+
+}
+
+final class Dispatcher implements Executor, DispatcherMXBean {
+
+    private final String name;
+
+    private final String type;
+
+    private final ExecutorService executor;
+
+    ObjectName management;
+
+    Dispatcher(String name, String type, ExecutorService executor) {
+        this.name     = name;
+        this.type     = type;
+        this.executor = executor;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getType() {
+        return type;
+    }
+
+    @Override
+    public int getParallelism() {
+
+        if (executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executor).getParallelism();
+        }
+
+        return ((ThreadPoolExecutor) executor).getMaximumPoolSize();
+
+    }
+
+    @Override
+    public int getPoolSize() {
+
+        if (executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executor).getPoolSize();
+        }
+
+        return ((ThreadPoolExecutor) executor).getPoolSize();
+
+    }
+
+    @Override
+    public int getActiveThreads() {
+
+        if (executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executor).getActiveThreadCount();
+        }
+
+        return ((ThreadPoolExecutor) executor).getActiveCount();
+
+    }
+
+    @Override
+    public long getQueueDepth() {
+
+        if (executor instanceof ForkJoinPool) {
+
+            ForkJoinPool pool = (ForkJoinPool) executor;
+
+            return pool.getQueuedSubmissionCount() + pool.getQueuedTaskCount();
+        }
+
+        return ((ThreadPoolExecutor) executor).getQueue().size();
+
+    }
+
+    @Override
+    public double getUtilization() {
+        return (double) getActiveThreads() / getParallelism();
+    }
+
+    void close() {
+
+        Management.unregister(management);
+
+        if (executor != commonPool()) {
+            executor.shutdown();
+        }
+
+    }
+
+    @Override
+    public String toString() {
+        return format("Dispatcher(name=%s, type=%s)", name, type);
+    }
+
+}
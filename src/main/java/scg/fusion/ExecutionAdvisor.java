@@ -2,6 +2,14 @@ package scg.fusion;
 
 import scg.fusion.aop.ExecutionJoinPoint;
 
+import java.lang.reflect.Method;
+
 interface ExecutionAdvisor extends ExecutionPointcut, PrivilegedAdvisor {
-    Object advise(ExecutionJoinPoint joinPoint);
+
+    Method getAdvice();
+
+    Object getAspect();
+
+    Object advise(ExecutionJoinPoint joinPoint, Object[] bindings);
+
 }
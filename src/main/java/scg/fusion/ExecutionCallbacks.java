@@ -0,0 +1,70 @@
+package scg.fusion;
+
+import scg.fusion.cglib.proxy.Callback;
+import scg.fusion.cglib.proxy.CallbackFilter;
+import scg.fusion.cglib.proxy.ExecutionInterceptor;
+import scg.fusion.cglib.proxy.NoOp;
+
+import java.lang.reflect.Method;
+import java.util.*;
+
+final class ExecutionCallbacks implements CallbackFilter {
+
+    static final int NO_OP_INDEX = 0;
+
+    final Callback[] callbacks;
+
+    final Class<?>[] callbackTypes;
+
+    private final Map<Method, Integer> indexes = new HashMap<>();
+
+    ExecutionCallbacks(Collection<ExecutionChain> chains) {
+
+        List<Callback> callbacks = new ArrayList<>();
+
+        callbacks.add(NoOp.INSTANCE);
+
+        for (ExecutionChain chain : chains) {
+            indexes.put(chain.getMethod(), callbacks.size());
+            callbacks.add(chain);
+        }
+
+        this.callbacks     = callbacks.toArray(new Callback[0]);
+        this.callbackTypes = new Class<?>[this.callbacks.length];
+
+        Arrays.fill(this.callbackTypes, ExecutionInterceptor.class);
+
+        this.callbackTypes[NO_OP_INDEX] = NoOp.class;
+
+    }
+
+    Set<Method> getMethods() {
+        return indexes.keySet();
+    }
+
+    @Override
+    public int accept(Method method) {
+        return indexes.getOrDefault(method, NO_OP_INDEX);
+    }
+
+    @Override
+    public int hashCode() {
+        return indexes.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+
+        if (this == that) {
+            return true;
+        }
+
+        if (that instanceof ExecutionCallbacks) {
+            return indexes.equals(((ExecutionCallbacks) that).indexes);
+        }
+
+        return false;
+
+    }
+
+}
@@ -0,0 +1,279 @@
+package scg.fusion;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import scg.fusion.cglib.proxy.ExecutionInterceptor;
+import scg.fusion.cglib.proxy.MethodProxy;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static java.util.Objects.isNull;
+import static scg.fusion.OnTheFlyFactory.newSpecializedExecution;
+import static scg.fusion.Pointcuts.ALWAYS;
+import static scg.fusion.Pointcuts.NEVER;
+import static scg.fusion.Utils.*;
+
+final class ExecutionChain implements ExecutionInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionChain.class);
+
+    static final ExecutionInterceptor PROCEED = (callSide, component, method, args, proxy) -> proxy.invokeSuper(component, args);
+
+    private static final ClassValue<Class<?>> actualCallSides = new ClassValue<Class<?>>() {
+        @Override
+        protected Class<?> computeValue(Class<?> callSide) {
+            return getActualComponentType(callSide);
+        }
+    };
+
+    private final Method method;
+
+    private final MethodJoint joint;
+
+    private final ExecutionAdvisor[] advisors;
+
+    private final Object[][] bindings;
+
+    private final Predicate<ExecutionAdvisor> enabled;
+
+    private final boolean withinGuarded;
+
+    private final Specializations specializations;
+
+    private volatile boolean active;
+
+    private volatile ExecutionInterceptor entryPoint;
+
+    private volatile ClassValue<ExecutionInterceptor> withinEntryPoints;
+
+    private boolean specialized;
+
+    ExecutionChain(Method method, List<ExecutionAdvisor> advisors, Predicate<ExecutionAdvisor> enabled, Specializations specializations) {
+
+        this.method          = method;
+        this.joint           = MethodJoint.of(method);
+        this.advisors        = advisors.toArray(new ExecutionAdvisor[0]);
+        this.bindings        = new Object[this.advisors.length][];
+        this.enabled         = enabled;
+        this.withinGuarded   = isWithinGuarded(this.advisors);
+        this.specializations = specializations;
+
+        for (int i = 0; i < this.advisors.length; i++) {
+            this.bindings[i] = bindAdviceParameters(this.advisors[i].getAdvice(), method);
+        }
+
+        refresh();
+
+    }
+
+    @Override
+    public Object intercept(Class<?> callSide, Object component, Method method, Object[] args, MethodProxy proxy) throws Throwable {
+
+        callSide = getActualCallSide(callSide);
+
+        if (withinGuarded) {
+            return withinEntryPoints.get(callSide).intercept(callSide, component, method, args, proxy);
+        } else {
+            return entryPoint.intercept(callSide, component, method, args, proxy);
+        }
+
+    }
+
+    @Override
+    public ExecutionInterceptor getEntryPoint() {
+        return withinGuarded ? this : entryPoint;
+    }
+
+    static Class<?> getActualCallSide(Class<?> callSide) {
+        return isNull(callSide) ? (null) : actualCallSides.get(callSide);
+    }
+
+    Method getMethod() {
+        return method;
+    }
+
+    boolean isWithinGuarded() {
+        return withinGuarded;
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    synchronized void refresh() {
+
+        boolean active = false;
+
+        for (ExecutionAdvisor advisor : advisors) {
+            active |= enabled.test(advisor);
+        }
+
+        // the specialized entry point is about to be dropped, its share of the budget goes back to the container
+        if (specialized) {
+            specialized = false;
+            specializations.release();
+        }
+
+        if (withinGuarded) {
+            this.withinEntryPoints = new ClassValue<ExecutionInterceptor>() {
+                @Override
+                protected ExecutionInterceptor computeValue(Class<?> callSide) {
+                    return compile(callSide);
+                }
+            };
+        } else {
+
+            ExecutionInterceptor entryPoint = compile(null);
+
+            this.entryPoint = isSpecializable(entryPoint) ? new Profile(entryPoint) : entryPoint;
+        }
+
+        this.active = active;
+
+    }
+
+    private ExecutionInterceptor compile(Class<?> callSide) {
+
+        ExecutionInterceptor entryPoint = (null);
+
+        for (int i = 0; i < advisors.length; i++) {
+
+            ExecutionAdvisor advisor = advisors[i];
+
+            if (!enabled.test(advisor)) {
+                continue;
+            }
+
+            if (!advisor.isWithinGuard() || advisor.match(callSide, method)) {
+
+                // static part of a dynamic pointcut is settled here, only args() and this() are left per invocation
+                ExecutionPointcut residue = advisor.isDynamic() ? advisor.residue(callSide, method) : ALWAYS;
+
+                if (residue == NEVER) {
+                    continue;
+                }
+
+                ExecutionInterceptor advice = isNull(entryPoint) ? delayJp(advisor, joint, bindings[i]) : delayAjp(advisor, joint, bindings[i], entryPoint);
+
+                if (residue.isDynamic()) {
+                    advice = delayResidue(residue, advice, isNull(entryPoint) ? PROCEED : entryPoint);
+                }
+
+                entryPoint = advice;
+            }
+        }
+
+        return isNull(entryPoint) ? PROCEED : entryPoint;
+
+    }
+
+    private boolean isSpecializable(ExecutionInterceptor entryPoint) {
+
+        if (!specializations.isEnabled() || entryPoint == PROCEED) {
+            return false;
+        }
+
+        for (ExecutionAdvisor advisor : advisors) {
+            if (enabled.test(advisor) && advisor.isDynamic() && advisor.residue(null, method).isDynamic()) {
+                return false;
+            }
+        }
+
+        return true;
+
+    }
+
+    private synchronized void specialize(Profile profile, MethodProxy proxy) {
+
+        if (entryPoint != profile) {
+            return;
+        }
+
+        // out of budget, keep profiling and ask again after twice as many calls, a slot may have been refunded by then
+        if (!specializations.acquire()) {
+            profile.retryAfter(profile.attempt);
+            return;
+        }
+
+        try {
+
+            ExecutionInterceptor entryPoint = (null);
+
+            for (int i = 0; i < advisors.length; i++) {
+                if (enabled.test(advisors[i]) && (!advisors[i].isDynamic() || advisors[i].residue(null, method) == ALWAYS)) {
+                    entryPoint = newSpecializedExecution(advisors[i], joint, bindings[i], entryPoint, proxy);
+                }
+            }
+
+            this.entryPoint  = entryPoint;
+            this.specialized = true;
+
+        } catch (RuntimeException cause) {
+
+            log.debug("Execution [{}] cannot be specialized", method, cause);
+
+            specializations.release();
+
+            this.entryPoint = profile.entryPoint;
+        }
+
+    }
+
+    private final class Profile implements ExecutionInterceptor {
+
+        final ExecutionInterceptor entryPoint;
+
+        final AtomicInteger invocations = new AtomicInteger();
+
+        volatile int attempt = specializations.getThreshold();
+
+        Profile(ExecutionInterceptor entryPoint) {
+            this.entryPoint = entryPoint;
+        }
+
+        void retryAfter(int invocations) {
+            attempt = invocations > Integer.MAX_VALUE / 2 ? -1 : invocations * 2;
+        }
+
+        @Override
+        public Object intercept(Class<?> callSide, Object component, Method method, Object[] args, MethodProxy proxy) throws Throwable {
+
+            // exactly one caller sees the attempt, the rest keep going through the generic chain meanwhile
+            if (invocations.getAndIncrement() == attempt) {
+                specialize(this, proxy);
+            }
+
+            return entryPoint.intercept(callSide, component, method, args, proxy);
+
+        }
+
+    }
+
+    private static boolean isWithinGuarded(ExecutionAdvisor[] advisors) {
+
+        for (ExecutionAdvisor advisor : advisors) {
+            if (advisor.isWithinGuard()) {
+                return true;
+            }
+        }
+
+        return false;
+
+    }
+
+    private static ExecutionInterceptor delayResidue(ExecutionPointcut residue, ExecutionInterceptor advice, ExecutionInterceptor proceed) {
+        return (callSide, component, method, args, proxy) -> residue.match(callSide, method, component, args) ? advice.intercept(callSide, component, method, args, proxy) : proceed.intercept(callSide, component, method, args, proxy);
+    }
+
+    private static ExecutionInterceptor delayAjp(ExecutionAdvisor advisor, MethodJoint joint, Object[] bindings, ExecutionInterceptor advice) {
+        return (callSide, component, method, args, proxy) -> advisor.advise(new AdvisedExecutionJoinPoint(callSide, component, method, joint, proxy, advice, args), bindings);
+    }
+
+    private static ExecutionInterceptor delayJp(ExecutionAdvisor advisor, MethodJoint joint, Object[] bindings) {
+        return (callSide, component, method, args, proxy) -> advisor.advise(new ExecutionJoinPointImpl(callSide, component, method, joint, proxy.asSuperInvoker(), args), bindings);
+    }
+
+}
@@ -1,33 +1,37 @@
 package scg.fusion;
 
-import scg.fusion.aop.ExecutionJoinPoint;
-import scg.fusion.cglib.proxy.MethodProxy;
+import scg.fusion.aop.AsyncExecutionJoinPoint;
+import scg.fusion.cglib.proxy.SuperInvoker;
 
 import java.lang.reflect.Method;
 
-final class ExecutionJoinPointImpl implements ExecutionJoinPoint {
+import static scg.fusion.ExecutionChain.getActualCallSide;
+
+public class ExecutionJoinPointImpl implements AsyncExecutionJoinPoint {
 
     private final Class<?> callSide;
     private final Object  component;
     private final Method     method;
-    private final MethodProxy proxy;
+    private final MethodJoint joint;
+    private final SuperInvoker invoker;
     private final Object[]     args;
 
-    public ExecutionJoinPointImpl(Class<?> callSide, Object component, Method method, MethodProxy proxy, Object[] args) {
+    public ExecutionJoinPointImpl(Class<?> callSide, Object component, Method method, MethodJoint joint, SuperInvoker invoker, Object[] args) {
         this.callSide = callSide;
         this.component = component;
         this.method = method;
-        this.proxy  =  proxy;
+        this.joint  =  joint;
+        this.invoker = invoker;
         this.args   =   args;
     }
 
     public Class<?> getCallSide() {
-        return callSide;
+        return getActualCallSide(callSide);
     }
 
     @Override
     public MethodJoint dissect() {
-        return new MethodJoint(method);
+        return joint;
     }
 
     @Override
@@ -35,6 +39,11 @@ final class ExecutionJoinPointImpl implements ExecutionJoinPoint {
         return args;
     }
 
+    @Override
+    public int getArgCount() {
+        return args.length;
+    }
+
     @Override
     public <R> R proceed(Object... args) throws Throwable {
 
@@ -42,7 +51,7 @@ final class ExecutionJoinPointImpl implements ExecutionJoinPoint {
             args = this.args;
         }
 
-        return (R) proxy.invokeSuper(component, args);
+        return (R) invoke(invoker, component, args);
 
     }
 
@@ -53,7 +62,15 @@ final class ExecutionJoinPointImpl implements ExecutionJoinPoint {
 
     @Override
     public <R> R proceed() throws Throwable {
-        return (R) proxy.invokeSuper(component, args);
+        return (R) invoke(invoker, component, args);
+    }
+
+    /**
+     * Proceeds to the original method body. Specialized executions override it with a call to the exact
+     * super invoker type, so the original body is inlined into the advice even though this class is shared.
+     */
+    protected Object invoke(SuperInvoker invoker, Object component, Object[] args) throws Throwable {
+        return invoker.invoke(component, args);
     }
 
     @Override
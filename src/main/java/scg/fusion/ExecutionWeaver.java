@@ -0,0 +1,547 @@
+package scg.fusion;
+
+import org.objectweb.asm.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import scg.fusion.annotation.Woven;
+import scg.fusion.cglib.core.Constants;
+import scg.fusion.cglib.transform.ClassTransformer;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.lang.instrument.Instrumentation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.security.ProtectionDomain;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static java.lang.String.format;
+import static java.lang.reflect.Modifier.isAbstract;
+import static java.lang.reflect.Modifier.isStatic;
+import static java.util.Arrays.asList;
+import static java.util.Arrays.fill;
+import static java.util.Arrays.stream;
+import static java.util.Objects.isNull;
+import static java.util.stream.Collectors.toList;
+import static org.objectweb.asm.Opcodes.*;
+import static org.objectweb.asm.Type.*;
+import static scg.fusion.Utils.*;
+
+final class ExecutionWeaver implements ClassFileTransformer {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionWeaver.class);
+
+    static final ExecutionWeaver INSTANCE = new ExecutionWeaver();
+
+    private static final String IS_ADVISED = "isAdvised";
+    private static final String GET_CALLER_CLASS = "getCallerClass";
+    private static final String REFLECTION = "sun/reflect/Reflection";
+    private static final String EXECUTIONS = "$fusion$executions";
+    private static final String CALLER_SENSITIVE = "callerSensitive";
+    private static final String ORIGINAL = "$fusion$original";
+
+    private final Map<String, Map<String, Integer>> targets = new ConcurrentHashMap<>();
+
+    private final Set<String> woven = ConcurrentHashMap.newKeySet();
+
+    private final Map<Class<?>, Collection<Integer>> registered = new ConcurrentHashMap<>();
+
+    private ExecutionWeaver() {
+    }
+
+    static boolean weave(Class<?> componentType, List<ExecutionChain> chains) {
+
+        if (componentType.isAnnotationPresent(Woven.class)) {
+            return bind(componentType, chains);
+        }
+
+        Instrumentation instrumentation = FusionAgent.getInstrumentation();
+
+        if (isNull(instrumentation) || !instrumentation.isModifiableClass(componentType)) {
+            return false;
+        }
+
+        Map<String, Integer> executions = new HashMap<>();
+
+        for (ExecutionChain chain : chains) {
+
+            Method method = chain.getMethod();
+
+            if (isStatic(method.getModifiers()) || isAbstract(method.getModifiers())) {
+                return false;
+            }
+
+            if (method.getDeclaringClass() != componentType) {
+                return false; // inherited executions are not in this class file, the subclass proxy covers them
+            }
+        }
+
+        for (ExecutionChain chain : chains) {
+            executions.put(toExecutionKey(chain.getMethod()), WovenExecutions.register(chain));
+        }
+
+        String className = getInternalName(componentType);
+
+        INSTANCE.targets.put(className, executions);
+
+        try {
+            instrumentation.retransformClasses(componentType);
+        } catch (Exception | LinkageError cause) {
+            log.warn("Cannot weave [{}], falling back to subclass proxy", componentType, cause);
+        }
+
+        INSTANCE.targets.remove(className);
+
+        if (INSTANCE.woven.contains(className)) {
+            INSTANCE.registered.put(componentType, executions.values());
+            return true;
+        }
+
+        executions.values().forEach(WovenExecutions::unregister);
+
+        return false;
+
+    }
+
+    static void unweave(Class<?> componentType) {
+
+        Collection<Integer> ids = INSTANCE.registered.remove(componentType);
+
+        if (isNull(ids)) {
+            return;
+        }
+
+        if (componentType.isAnnotationPresent(Woven.class)) {
+            setExecutions(componentType, null);
+        }
+
+        // runtime woven bytecode stays in place, its unregistered ids are never advised again
+        ids.forEach(WovenExecutions::unregister);
+
+    }
+
+    static byte[] weave(byte[] classfileBuffer, Map<Method, Boolean> executions) {
+
+        ClassReader reader = new ClassReader(classfileBuffer);
+
+        ClassWriter writer = new ClassWriter(reader, ClassWriter.COMPUTE_MAXS);
+
+        PreWeavingTransformer transformer = new PreWeavingTransformer(reader.getClassName(), executions);
+
+        transformer.setTarget(writer);
+
+        reader.accept(transformer, 0);
+
+        return writer.toByteArray();
+
+    }
+
+    private static boolean bind(Class<?> componentType, List<ExecutionChain> chains) {
+
+        Woven woven = componentType.getAnnotation(Woven.class);
+
+        List<String> executions = asList(woven.value());
+
+        List<String> callerSensitive = asList(woven.callerSensitive());
+
+        for (ExecutionChain chain : chains) {
+
+            String execution = toExecutionKey(chain.getMethod());
+
+            if (!executions.contains(execution) || (chain.isWithinGuarded() && !callerSensitive.contains(execution))) {
+                log.warn("Pre-woven [{}] does not cover [{}], falling back to subclass proxy", componentType, chain.getMethod());
+                return false;
+            }
+        }
+
+        int[] ids = new int[executions.size()];
+
+        fill(ids, WovenExecutions.NONE);
+
+        for (ExecutionChain chain : chains) {
+            ids[executions.indexOf(toExecutionKey(chain.getMethod()))] = WovenExecutions.register(chain, chain.getMethod().getName() + ORIGINAL);
+        }
+
+        setExecutions(componentType, ids);
+
+        INSTANCE.registered.put(componentType, stream(ids).filter(id -> id != WovenExecutions.NONE).boxed().collect(toList()));
+
+        return true;
+
+    }
+
+    private static void setExecutions(Class<?> componentType, int[] ids) {
+        try {
+
+            Field field = componentType.getDeclaredField(EXECUTIONS);
+
+            field.setAccessible(true);
+            field.set(null, ids);
+
+        } catch (NoSuchFieldException | IllegalAccessException cause) {
+            throw new RuntimeException(format("Cannot bind pre-woven [%s]", componentType), cause);
+        }
+    }
+
+    private static String toExecutionKey(Method method) {
+        return method.getName() + getMethodDescriptor(method);
+    }
+
+    @Override
+    public byte[] transform(ClassLoader loader, String className, Class<?> classBeingRedefined, ProtectionDomain domain, byte[] classfileBuffer) {
+
+        Map<String, Integer> executions = isNull(className) ? (null) : targets.get(className);
+
+        if (isNull(executions)) {
+            return (null);
+        }
+
+        try {
+
+            ClassReader reader = new ClassReader(classfileBuffer);
+
+            ClassWriter writer = new ClassWriter(reader, ClassWriter.COMPUTE_MAXS);
+
+            WeavingTransformer transformer = new WeavingTransformer(executions);
+
+            transformer.setTarget(writer);
+
+            reader.accept(transformer, 0);
+
+            woven.add(className);
+
+            return writer.toByteArray();
+
+        } catch (RuntimeException cause) {
+            log.warn("Weaving of [{}] failed", className, cause);
+            return (null);
+        }
+    }
+
+    private static final class WeavingTransformer extends ClassTransformer {
+
+        private final Map<String, Integer> executions;
+
+        private boolean frames;
+
+        WeavingTransformer(Map<String, Integer> executions) {
+            this.executions = executions;
+        }
+
+        @Override
+        public void setTarget(ClassVisitor target) {
+            this.cv = target;
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+
+            this.frames = (version & 0xFFFF) >= V1_7;
+
+            super.visit(version, access, name, signature, superName, interfaces);
+
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+
+            MethodVisitor visitor = super.visitMethod(access, name, descriptor, signature, exceptions);
+
+            Integer id = executions.get(name + descriptor);
+
+            if (isNull(id)) {
+                return visitor;
+            }
+
+            Consumer<MethodVisitor> selector = mv -> mv.visitLdcInsn(id);
+
+            return new WeavingMethodVisitor(visitor, WovenExecutions.getMethod(id), WovenExecutions.isWithinGuarded(id), frames, selector, INT_TYPE);
+
+        }
+    }
+
+    private static final class PreWeavingTransformer extends ClassTransformer {
+
+        private final String className;
+
+        private final Map<String, Method> executions = new LinkedHashMap<>();
+
+        private final List<String> slots = new ArrayList<>();
+
+        private final List<String> callerSensitive = new ArrayList<>();
+
+        private boolean frames;
+
+        private boolean annotated;
+
+        PreWeavingTransformer(String className, Map<Method, Boolean> executions) {
+
+            this.className = className;
+
+            for (Method method : executions.keySet()) {
+
+                String execution = toExecutionKey(method);
+
+                this.executions.put(execution, method);
+                this.slots.add(execution);
+
+                if (executions.get(method)) {
+                    this.callerSensitive.add(execution);
+                }
+            }
+        }
+
+        @Override
+        public void setTarget(ClassVisitor target) {
+            this.cv = target;
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+
+            this.frames = (version & 0xFFFF) >= V1_7;
+
+            super.visit(version, access, name, signature, superName, interfaces);
+
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            visitWoven();
+            return super.visitAnnotation(descriptor, visible);
+        }
+
+        @Override
+        public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor, boolean visible) {
+            visitWoven();
+            return super.visitTypeAnnotation(typeRef, typePath, descriptor, visible);
+        }
+
+        @Override
+        public void visitAttribute(Attribute attribute) {
+            visitWoven();
+            super.visitAttribute(attribute);
+        }
+
+        @Override
+        public void visitNestMember(String nestMember) {
+            visitWoven();
+            super.visitNestMember(nestMember);
+        }
+
+        @Override
+        public void visitInnerClass(String name, String outerName, String innerName, int access) {
+            visitWoven();
+            super.visitInnerClass(name, outerName, innerName, access);
+        }
+
+        @Override
+        public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+            visitWoven();
+            return super.visitField(access, name, descriptor, signature, value);
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+
+            visitWoven();
+
+            MethodVisitor visitor = super.visitMethod(access, name, descriptor, signature, exceptions);
+
+            String execution = name + descriptor;
+
+            Method method = executions.get(execution);
+
+            if (isNull(method)) {
+                return visitor;
+            }
+
+            int slot = slots.indexOf(execution);
+
+            Consumer<MethodVisitor> selector = mv -> {
+                mv.visitFieldInsn(GETSTATIC, className, EXECUTIONS, getDescriptor(int[].class));
+                mv.visitLdcInsn(slot);
+            };
+
+            // the body moves to a private method, proceeding calls it directly instead of re-entering the woven one
+            MethodVisitor original = super.visitMethod(ACC_PRIVATE | ACC_SYNTHETIC | (access & (ACC_SYNCHRONIZED | ACC_STRICT)), name + ORIGINAL, descriptor, signature, exceptions);
+
+            return new OriginalMethodVisitor(new WeavingMethodVisitor(visitor, method, callerSensitive.contains(execution), frames, selector, getType(int[].class), INT_TYPE), original, className, method);
+
+        }
+
+        @Override
+        public void visitEnd() {
+
+            visitWoven();
+
+            super.visitField(ACC_PRIVATE | ACC_STATIC | ACC_SYNTHETIC, EXECUTIONS, getDescriptor(int[].class), null, null).visitEnd();
+
+            super.visitEnd();
+
+        }
+
+        // class annotations follow visitSource, visitNestHost and visitOuterClass, so not from within visit
+        private void visitWoven() {
+
+            if (annotated) {
+                return;
+            }
+
+            annotated = true;
+
+            AnnotationVisitor woven = super.visitAnnotation(getDescriptor(Woven.class), true);
+
+            visitArray(woven.visitArray(VALUE), slots);
+            visitArray(woven.visitArray(CALLER_SENSITIVE), callerSensitive);
+
+            woven.visitEnd();
+
+        }
+
+        private static void visitArray(AnnotationVisitor array, List<String> values) {
+
+            for (String value : values) {
+                array.visit(null, value);
+            }
+
+            array.visitEnd();
+
+        }
+    }
+
+    private static final class OriginalMethodVisitor extends MethodVisitor {
+
+        private final MethodVisitor original;
+
+        private final String owner;
+
+        private final Method method;
+
+        OriginalMethodVisitor(MethodVisitor woven, MethodVisitor original, String owner, Method method) {
+            super(Constants.ASM_API, woven);
+            this.original = original;
+            this.owner = owner;
+            this.method = method;
+        }
+
+        @Override
+        public void visitCode() {
+
+            super.visitCode();
+
+            visitVarInsn(ALOAD, 0);
+
+            int slot = 1;
+
+            for (Class<?> parameterType : method.getParameterTypes()) {
+                visitVarInsn(getType(parameterType).getOpcode(ILOAD), slot);
+                slot += getType(parameterType).getSize();
+            }
+
+            visitMethodInsn(INVOKESPECIAL, owner, method.getName() + ORIGINAL, getMethodDescriptor(method), false);
+            visitInsn(getType(method.getReturnType()).getOpcode(IRETURN));
+            visitMaxs(0, 0);
+            visitEnd();
+
+            // annotations stay on the woven method, the code goes on into the original one
+            this.mv = original;
+
+            super.visitCode();
+
+        }
+    }
+
+    private static final class WeavingMethodVisitor extends MethodVisitor {
+
+        private final Method method;
+
+        private final boolean callerSensitive;
+
+        private final boolean frames;
+
+        private final Consumer<MethodVisitor> selector;
+
+        private final Type[] selectorTypes;
+
+        WeavingMethodVisitor(MethodVisitor visitor, Method method, boolean callerSensitive, boolean frames, Consumer<MethodVisitor> selector, Type...selectorTypes) {
+            super(Constants.ASM_API, visitor);
+            this.method = method;
+            this.callerSensitive = callerSensitive;
+            this.frames = frames;
+            this.selector = selector;
+            this.selectorTypes = selectorTypes;
+        }
+
+        @Override
+        public void visitCode() {
+
+            super.visitCode();
+
+            Class<?>[] parameterTypes = method.getParameterTypes();
+
+            Class<?> returnType = method.getReturnType();
+
+            String owner = getInternalName(WovenExecutions.class);
+
+            Label body = new Label();
+
+            selector.accept(this);
+            visitMethodInsn(INVOKESTATIC, owner, IS_ADVISED, getMethodDescriptor(BOOLEAN_TYPE, selectorTypes), false);
+            visitJumpInsn(IFEQ, body);
+
+            selector.accept(this);
+
+            if (callerSensitive) {
+                visitInsn(ICONST_2);
+                visitMethodInsn(INVOKESTATIC, REFLECTION, GET_CALLER_CLASS, getMethodDescriptor(getType(Class.class), INT_TYPE), false);
+            } else {
+                visitInsn(ACONST_NULL);
+            }
+
+            visitVarInsn(ALOAD, 0);
+
+            visitLdcInsn(parameterTypes.length);
+            visitTypeInsn(ANEWARRAY, getInternalName(Object.class));
+
+            for (int i = 0, slot = 1; i < parameterTypes.length; i++) {
+
+                Type parameterType = getType(parameterTypes[i]);
+
+                visitInsn(DUP);
+                visitLdcInsn(i);
+                visitVarInsn(parameterType.getOpcode(ILOAD), slot);
+                boxing(parameterTypes[i]).accept(this);
+                visitInsn(AASTORE);
+
+                slot += parameterType.getSize();
+            }
+
+            List<Type> adviseTypes = new ArrayList<>(asList(selectorTypes));
+
+            adviseTypes.addAll(asList(getType(Class.class), getType(Object.class), getType(Object[].class)));
+
+            visitMethodInsn(INVOKESTATIC, owner, ADVISE, getMethodDescriptor(getType(Object.class), adviseTypes.toArray(new Type[0])), false);
+
+            if (returnType == void.class) {
+                visitInsn(POP);
+                visitInsn(RETURN);
+            } else {
+                visitTypeInsn(CHECKCAST, getInternalName(getBoxedType(returnType)));
+                unboxing(returnType).accept(this);
+                visitInsn(getType(returnType).getOpcode(IRETURN));
+            }
+
+            visitLabel(body);
+
+            if (frames) {
+                visitFrame(F_SAME, 0, null, 0, null);
+            }
+
+            visitInsn(NOP);
+
+        }
+    }
+
+}
@@ -2,15 +2,28 @@ package scg.fusion;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class FieldJoint implements Joint {
 
+    private static final ClassValue<Map<Field, FieldJoint>> joints = new ClassValue<Map<Field, FieldJoint>>() {
+        @Override
+        protected Map<Field, FieldJoint> computeValue(Class<?> declaringClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private final Field joint;
 
     FieldJoint(Field joint) {
         this.joint = joint;
     }
 
+    static FieldJoint of(Field joint) {
+        return joints.get(joint.getDeclaringClass()).computeIfAbsent(joint, FieldJoint::new);
+    }
+
     @Override
     public String getName() {
         return joint.getName();
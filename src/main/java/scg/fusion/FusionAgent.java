@@ -0,0 +1,36 @@
+package scg.fusion;
+
+import java.lang.instrument.Instrumentation;
+
+import static java.util.Objects.isNull;
+
+public final class FusionAgent {
+
+    private static volatile Instrumentation instrumentation;
+
+    private FusionAgent() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static void premain(String args, Instrumentation instrumentation) {
+        install(instrumentation);
+    }
+
+    public static void agentmain(String args, Instrumentation instrumentation) {
+        install(instrumentation);
+    }
+
+    static Instrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    private static synchronized void install(Instrumentation instrumentation) {
+        if (isNull(FusionAgent.instrumentation) && instrumentation.isRetransformClassesSupported()) {
+
+            instrumentation.addTransformer(ExecutionWeaver.INSTANCE, true);
+
+            FusionAgent.instrumentation = instrumentation;
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+package scg.fusion;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import scg.fusion.exceptions.IllegalContractException;
+import scg.fusion.messaging.PayloadCodec;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+import static scg.fusion.Utils.*;
+
+final class Journals implements AutoCloseable, Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(Journals.class);
+
+    private static final String DEFAULT_DIRECTORY = "fusion-journal";
+
+    private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    private static final int DEFAULT_FLUSH_INTERVAL_MILLIS = 10;
+
+    private final Environment environment;
+
+    private final Map<String, TopicJournal> journals = new HashMap<>();
+
+    private Thread flusher;
+
+    private volatile boolean closed;
+
+    Journals(Environment environment) {
+        this.environment = environment;
+    }
+
+    boolean isDurable(String topic) {
+        return environment.getBoolean(format(MESSAGING_TOPIC_DURABLE_PROPERTY_NAME, topic));
+    }
+
+    synchronized TopicJournal get(String topic) {
+
+        TopicJournal journal = journals.get(topic);
+
+        if (isNull(journal)) {
+
+            String directory = environment.getProperty(MESSAGING_JOURNAL_DIRECTORY_PROPERTY_NAME);
+
+            int segmentSize = environment.getIntOrDefault(MESSAGING_JOURNAL_SEGMENT_SIZE_PROPERTY_NAME, DEFAULT_SEGMENT_SIZE);
+
+            int flushInterval = environment.getIntOrDefault(MESSAGING_JOURNAL_FLUSH_INTERVAL_PROPERTY_NAME, DEFAULT_FLUSH_INTERVAL_MILLIS);
+
+            journal = new TopicJournal(topic, new File(isNull(directory) ? DEFAULT_DIRECTORY : directory), segmentSize, newPayloadCodec(), flushInterval <= 0);
+
+            journals.put(topic, journal);
+
+            if (flushInterval > 0 && isNull(flusher)) {
+
+                flusher = new Thread(this, "fusion-journal-flusher");
+
+                flusher.setDaemon(true);
+                flusher.start();
+            }
+        }
+
+        return journal;
+
+    }
+
+    @Override
+    public void run() {
+
+        long flushIntervalNanos = MILLISECONDS.toNanos(environment.getIntOrDefault(MESSAGING_JOURNAL_FLUSH_INTERVAL_PROPERTY_NAME, DEFAULT_FLUSH_INTERVAL_MILLIS));
+
+        while (!closed) {
+
+            parkNanos(this, flushIntervalNanos);
+
+            for (TopicJournal journal : listJournals()) {
+                try {
+                    journal.flush();
+                } catch (RuntimeException cause) {
+                    log.warn("Journal of topic [{}] cannot be flushed", journal.getTopic(), cause);
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+
+        closed = true;
+
+        if (nonNull(flusher)) {
+            flusher.interrupt();
+        }
+
+        for (TopicJournal journal : journals.values()) {
+            journal.close();
+        }
+
+        journals.clear();
+
+    }
+
+    private synchronized TopicJournal[] listJournals() {
+        return journals.values().toArray(new TopicJournal[0]);
+    }
+
+    private PayloadCodec newPayloadCodec() {
+
+        String codecClassName = environment.getProperty(MESSAGING_JOURNAL_CODEC_PROPERTY_NAME);
+
+        if (isNull(codecClassName)) {
+            return new SerializationPayloadCodec();
+        }
+
+        try {
+            return Class.forName(codecClassName).asSubclass(PayloadCodec.class).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException cause) {
+            throw new IllegalContractException("cannot instantiate payload codec [%s]: %s", codecClassName, cause);
+        }
+
+    }
+
+}
@@ -0,0 +1,100 @@
+package scg.fusion;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.lang.Integer.highestOneBit;
+
+final class Mailbox<E> {
+
+    private final int capacity;
+
+    private final int mask;
+
+    private final AtomicReferenceArray<E> slots;
+
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong producerIndex = new AtomicLong();
+
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    Mailbox(int capacity) {
+
+        int size = (capacity == 1) ? 1 : highestOneBit(capacity - 1) << 1;
+
+        this.capacity  = capacity;
+        this.mask      = size - 1;
+        this.slots     = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+
+        for (int i = 0; i < size; i++) {
+            sequences.lazySet(i, i);
+        }
+
+    }
+
+    boolean offer(E element) {
+        while (true) {
+
+            long index = producerIndex.get();
+
+            int offset = (int) index & mask;
+
+            long delta = sequences.get(offset) - index;
+
+            if (delta < 0L || index - consumerIndex.get() >= capacity) {
+                return false;
+            }
+
+            if (delta == 0L && producerIndex.compareAndSet(index, index + 1)) {
+
+                slots.lazySet(offset, element);
+
+                sequences.lazySet(offset, index + 1);
+
+                return true;
+            }
+        }
+    }
+
+    E poll() {
+        while (true) {
+
+            long index = consumerIndex.get();
+
+            int offset = (int) index & mask;
+
+            long delta = sequences.get(offset) - (index + 1);
+
+            if (delta < 0L) {
+                return (null);
+            }
+
+            if (delta == 0L && consumerIndex.compareAndSet(index, index + 1)) {
+
+                E element = slots.get(offset);
+
+                slots.lazySet(offset, null);
+
+                sequences.lazySet(offset, index + mask + 1);
+
+                return element;
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return consumerIndex.get() == producerIndex.get();
+    }
+
+    int size() {
+        return (int) (producerIndex.get() - consumerIndex.get());
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+}
@@ -0,0 +1,59 @@
+package scg.fusion;
+
+import scg.fusion.exceptions.IllegalContractException;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+final class MailboxOverflow {
+
+    static final String BLOCK       = "block";
+    static final String DROP        = "drop";
+    static final String DROP_NEWEST = "drop-newest";
+    static final String DROP_OLDEST = "drop-oldest";
+    static final String FAIL        = "fail";
+
+    // an explicit zero timeout still blocks for good, the default gives up so that a stuck consumer surfaces as a failure
+    static final int DEFAULT_MAILBOX_OVERFLOW_TIMEOUT_MILLIS = 10_000;
+
+    static final MailboxOverflow DEFAULT_MAILBOX_OVERFLOW = new MailboxOverflow(BLOCK, MILLISECONDS.toNanos(DEFAULT_MAILBOX_OVERFLOW_TIMEOUT_MILLIS));
+
+    final String strategy;
+
+    final long timeoutNanos;
+
+    private MailboxOverflow(String strategy, long timeoutNanos) {
+        this.strategy     = strategy;
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    boolean isTimed() {
+        return timeoutNanos > 0L;
+    }
+
+    static MailboxOverflow of(String strategy, long timeoutMillis) {
+
+        if (timeoutMillis < 0L) {
+            throw new IllegalContractException("mailbox overflow timeout [%d] must not be negative", timeoutMillis);
+        }
+
+        switch (strategy) {
+            case BLOCK:
+                return new MailboxOverflow(BLOCK, MILLISECONDS.toNanos(timeoutMillis));
+            case DROP:
+            case DROP_NEWEST:
+                return new MailboxOverflow(DROP_NEWEST, 0L);
+            case DROP_OLDEST:
+                return new MailboxOverflow(DROP_OLDEST, 0L);
+            case FAIL:
+                return new MailboxOverflow(FAIL, 0L);
+            default:
+                throw new IllegalContractException("unknown mailbox overflow policy [%s] (must be one of %s, %s, %s, %s)", strategy, BLOCK, DROP_NEWEST, DROP_OLDEST, FAIL);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return isTimed() ? (strategy + "(" + timeoutNanos + "ns)") : strategy;
+    }
+
+}
@@ -0,0 +1,51 @@
+package scg.fusion;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static java.util.Objects.isNull;
+
+final class Management {
+
+    private static final Logger log = LoggerFactory.getLogger(Management.class);
+
+    private Management() {
+        throw new UnsupportedOperationException();
+    }
+
+    static ObjectName register(Object mbean, String name) {
+        try {
+
+            ObjectName objectName = new ObjectName(name);
+
+            ManagementFactory.getPlatformMBeanServer().registerMBean(mbean, objectName);
+
+            return objectName;
+
+        } catch (JMException cause) {
+            log.warn("Management bean [{}] unavailable", name, cause);
+        }
+
+        return (null);
+
+    }
+
+    static void unregister(ObjectName name) {
+
+        if (isNull(name)) {
+            return;
+        }
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (JMException cause) {
+            log.warn("Management bean [{}] cannot be unregistered", name, cause);
+        }
+
+    }
+
+}
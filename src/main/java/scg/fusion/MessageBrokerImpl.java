@@ -1,77 +1,278 @@
 package scg.fusion;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import scg.fusion.exceptions.IllegalContractException;
+import scg.fusion.annotation.MessageListener;
+import scg.fusion.exceptions.MailboxOverflowException;
+import scg.fusion.exceptions.UnroutableMessageException;
 import scg.fusion.messaging.*;
 
+import javax.management.ObjectName;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 
-import java.util.function.Function;
-
 import static java.lang.String.format;
 
 import static java.lang.System.currentTimeMillis;
+import static java.lang.System.identityHashCode;
 
 import static java.lang.reflect.Modifier.isStatic;
 import static java.util.Collections.*;
 import static java.util.Objects.isNull;
 
 import static java.util.Objects.nonNull;
-
-import static java.util.concurrent.ForkJoinPool.commonPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import static scg.fusion.OnTheFlyFactory.newInstanceMessageListenerHandle;
 import static scg.fusion.OnTheFlyFactory.newStaticMessageListenerHandle;
+import static scg.fusion.ComponentActorImpl.*;
+import static scg.fusion.MailboxOverflow.*;
+import static scg.fusion.TopicJournal.NO_POSITION;
 import static scg.fusion.Utils.*;
 import static scg.fusion.Verification.*;
 import static scg.fusion.annotation.MessageTopics.DEFAULT_TOPIC_NAME;
+import static scg.fusion.PartitionedComponentActor.DEFAULT_LANES;
+import static scg.fusion.messaging.Headers.CORRELATION_ID;
+import static scg.fusion.messaging.Headers.PARTITION_KEY;
 
 abstract class MessageBrokerImpl implements MessageBroker, MessagePublisher {
 
-    private static final Executor dispatcher = commonPool();
+    private static final ActorRoute[] NO_ROUTES = new ActorRoute[0];
+
+    private static final int DEFAULT_TIMER_TICK_MILLIS = 10;
+
+    private static final int DEFAULT_TIMER_WHEEL_SIZE = 512;
+
+    private static final Logger log = LoggerFactory.getLogger(MessageBrokerImpl.class);
+
+    private Map<String, ActorRoute[]> byTopicRoutes = new HashMap<>();
+
+    private Map<String, TopicJournal> byTopicJournals = emptyMap();
+
+    private PreparedPublisher defaultPublisher;
+
+    private Dispatchers dispatchers;
+
+    private Journals journals;
+
+    private final Map<String, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+
+    private final List<PartitionedComponentActor> partitionedActors = new ArrayList<>();
+
+    // durable requests outlive the broker and are replayed after a restart, so ids carry a per broker prefix
+    private final String correlationIdPrefix = UUID.randomUUID().toString();
 
-    private final Map<String, Set<ComponentActor>> byTopicActors = new HashMap<>();
+    private final AtomicLong correlationIds = new AtomicLong();
+
+    private volatile TimerWheel timer;
+
+    abstract Environment getEnvironment();
 
     @Override
     public MessagePublisher forall(String... tags) {
-        return payload -> {
 
-            Map<String, String> headers;
+        Set<String> topics = new HashSet<>();
 
-            if (payload instanceof PayloadWithHeaders) {
+        if (tags.length == 0) {
+            topics.add(DEFAULT_TOPIC_NAME);
+        } else {
+            addAll(topics, tags);
+        }
 
-                PayloadWithHeaders payloadWithHeaders = (PayloadWithHeaders) payload;
+        return new TopicPublisher(topics);
 
-                headers = payloadWithHeaders.headers;
-                payload = payloadWithHeaders.payload;
+    }
 
-            } else {
-                headers = emptyMap();
-            }
+    @Override
+    public PreparedPublisher prepare(String... tags) {
 
-            if (isNull(payload)) {
-                return false;
-            }
+        Set<String> topics = new HashSet<>();
 
-            MessageImpl message = new MessageImpl(this::publish0, payload, headers);
+        if (tags.length == 0) {
+            topics.add(DEFAULT_TOPIC_NAME);
+        } else {
+            addAll(topics, tags);
+        }
 
-            if (tags.length == 0) {
-                message.tags.add(DEFAULT_TOPIC_NAME);
-            } else {
-                addAll(message.tags, tags);
-            }
+        ActorRoute[][] routes = new ActorRoute[topics.size()][];
 
-            return publish0(message);
+        TopicJournal[] journals = new TopicJournal[topics.size()];
+
+        int i = 0;
+
+        for (String topic : topics) {
+            routes[i]     = byTopicRoutes.getOrDefault(topic, NO_ROUTES);
+            journals[i++] = byTopicJournals.get(topic);
+        }
+
+        return new PreparedPublisherImpl(unmodifiableSet(topics), routes, journals);
 
-        };
     }
 
     @Override
     public boolean publish(Object payload) {
-        return this.forall(DEFAULT_TOPIC_NAME).publish(payload);
+
+        if (isNull(defaultPublisher)) {
+            return this.forall(DEFAULT_TOPIC_NAME).publish(payload);
+        }
+
+        return defaultPublisher.publish(payload);
+
+    }
+
+    @Override
+    public CompletionStage<Boolean> publishAsync(Object payload) {
+
+        if (isNull(defaultPublisher)) {
+            return this.forall(DEFAULT_TOPIC_NAME).publishAsync(payload);
+        }
+
+        return defaultPublisher.publishAsync(payload);
+
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletionStage<T> request(String topic, Object payload, long timeout, TimeUnit unit) {
+
+        PendingRequest request = new PendingRequest(correlationIdPrefix + '-' + correlationIds.incrementAndGet());
+
+        Map<String, String> headers = new HashMap<>();
+
+        if (payload instanceof PayloadWithHeaders) {
+
+            PayloadWithHeaders payloadWithHeaders = (PayloadWithHeaders) payload;
+
+            headers.putAll(payloadWithHeaders.headers);
+
+            payload = payloadWithHeaders.payload;
+        }
+
+        if (isNull(payload)) {
+            throw new IllegalArgumentException("request payload must not be null");
+        }
+
+        headers.put(CORRELATION_ID, request.correlationId);
+
+        pendingRequests.put(request.correlationId, request);
+
+        request.timeout = getTimer().schedule(request::expire, timeout, unit);
+
+        try {
+            if (!publish0(new MessageImpl(this, payload, headers, singleton(topic)))) {
+                request.fail(new UnroutableMessageException("no message listeners subscribed to topic [%s]", topic));
+            }
+        } catch (RuntimeException cause) {
+            request.fail(cause);
+        }
+
+        return (CompletionStage<T>) request;
+
+    }
+
+    boolean reply(String correlationId, Object payload) {
+
+        PendingRequest request = pendingRequests.remove(correlationId);
+
+        if (isNull(request)) {
+            return false;
+        }
+
+        if (payload instanceof PayloadWithHeaders) {
+            payload = ((PayloadWithHeaders) payload).payload;
+        }
+
+        return request.reply(payload);
+
+    }
+
+    void freezeRoutes() {
+
+        Map<String, TopicJournal> byTopicJournals = new HashMap<>();
+
+        for (String topic : byTopicRoutes.keySet()) {
+            if (getJournals().isDurable(topic)) {
+
+                TopicJournal journal = getJournals().get(topic);
+
+                for (ActorRoute route : byTopicRoutes.get(topic)) {
+
+                    if (route.actor instanceof PartitionedComponentActor) {
+                        throw new IllegalContractException("partitioned component [%s] cannot listen to durable topic [%s]", route.consumer, topic);
+                    }
+
+                    route.cursor = journal.newCursor(route.consumer);
+                }
+
+                byTopicJournals.put(topic, journal);
+            }
+        }
+
+        this.byTopicRoutes    = unmodifiableMap(byTopicRoutes);
+        this.byTopicJournals  = unmodifiableMap(byTopicJournals);
+        this.defaultPublisher = prepare(DEFAULT_TOPIC_NAME);
+
+    }
+
+    void replayJournals() {
+        for (String topic : byTopicJournals.keySet()) {
+
+            TopicJournal journal = byTopicJournals.get(topic);
+
+            ActorRoute[] routes = byTopicRoutes.get(topic);
+
+            long[] from = new long[routes.length];
+
+            long to;
+
+            // only the backlog is settled under the monitor, mailboxes are filled without it
+            synchronized (journal) {
+
+                if (journal.isReplayed()) {
+                    continue;
+                }
+
+                for (int i = 0; i < routes.length; i++) {
+                    from[i] = journal.expectBacklog(routes[i].cursor);
+                }
+
+                to = journal.markReplayed();
+            }
+
+            for (int i = 0; i < routes.length; i++) {
+
+                ActorRoute route = routes[i];
+
+                journal.replay(from[i], to, (position, record) -> {
+
+                    MessageImpl message;
+
+                    try {
+                        message = journal.decode(this, record);
+                    } catch (RuntimeException cause) {
+                        log.warn("Journaled message of topic [{}] at [{}] cannot be decoded", topic, position, cause);
+                        route.cursor.ack(position);
+                        return;
+                    }
+
+                    MessageListenerHandle[] handles = route.getHandles(message.type);
+
+                    if (handles.length == 0) {
+                        route.cursor.ack(position);
+                    } else try {
+                        route.actor.receive(message, handles, route, position, null);
+                    } catch (MailboxOverflowException cause) {
+                        log.warn("Journaled message of topic [{}] at [{}] is not replayed", topic, position, cause);
+                    }
+                });
+            }
+        }
     }
 
     void registerActor(Class<?> componentType, ComponentProvider<?> provider) {
@@ -81,6 +282,10 @@ abstract class MessageBrokerImpl implements MessageBroker, MessagePublisher {
 
             Map<String, Map<Type, Set<MessageListenerHandle>>> mappedHandles = new HashMap<>();
 
+            Map<String, String> mappedDispatchers = new HashMap<>();
+
+            Map<MessageListenerHandle, RedeliveryPolicy> redeliveryPolicies = new IdentityHashMap<>();
+
             for (Method method : listVerifiedMessageListeners(componentType)) {
 
                 if (isDlqListener(method, false)) {
@@ -105,27 +310,41 @@ abstract class MessageBrokerImpl implements MessageBroker, MessagePublisher {
                         handle = newInstanceMessageListenerHandle(method, provider);
                     }
 
+                    if (isBatchMessageListener(method)) {
+
+                        MessageListener listener = method.getAnnotation(MessageListener.class);
+
+                        handle = new BatchListenerHandle(handle, listener.maxBatchSize(), listener.maxLinger());
+                    }
+
                     Type messageType = getMessageType(method);
 
+                    String dispatcherName = getMessageDispatcher(method);
+
+                    RedeliveryPolicy redeliveryPolicy = RedeliveryPolicy.of(method);
+
+                    if (nonNull(redeliveryPolicy)) {
+                        redeliveryPolicies.put(handle, redeliveryPolicy);
+                    }
+
                     for (String messageTopic : listMessageTopics(method)) {
                         mappedHandles.compute(messageTopic, appendMessageListenerHandle(messageType, handle));
+                        mappedDispatchers.merge(messageTopic, dispatcherName, mergeDispatcherNames(componentType, messageTopic));
                     }
                 }
             }
 
             if (!mappedHandles.isEmpty()) {
 
-                ComponentActor actor = new ComponentActorImpl(mappedHandles, dlqHandle);
+                ComponentActor actor = newActor(componentType, dlqHandle, redeliveryPolicies);
+
+                Dispatcher dispatcher = getDispatcher(componentType, mappedDispatchers);
 
                 for (String topic : mappedHandles.keySet()) {
 
-                    Map<Type, Set<MessageListenerHandle>> byTypeMessageListenerHandles = mappedHandles.get(topic);
+                    MailboxOverflow overflow = getMailboxOverflow(componentType, topic);
 
-                    for (Type messageType : byTypeMessageListenerHandles.keySet()) {
-                        for (MessageListenerHandle handle : byTypeMessageListenerHandles.get(messageType)) {
-                            byTopicActors.compute(topic, appendActor(actor));
-                        }
-                    }
+                    byTopicRoutes.compute(topic, appendRoute(new ActorRoute(actor, componentType.getName(), dispatcher, overflow, mappedHandles.get(topic))));
                 }
             } else if (nonNull(dlqHandle)) {
                 throw new IllegalContractException("@DlqListener definition in [%s] is illegal without at least one @MessageListener", componentType);
@@ -134,35 +353,322 @@ abstract class MessageBrokerImpl implements MessageBroker, MessagePublisher {
     }
 
     private boolean publish0(MessageImpl message) {
+        return publish0(message, null);
+    }
+
+    private boolean publish0(MessageImpl message, DeliveryReceipt receipt) {
 
         boolean success = false;
 
         for (String topic : message.tags) {
+            success = dispatch(message, byTopicRoutes.getOrDefault(topic, NO_ROUTES), byTopicJournals.get(topic), receipt) || success;
+        }
+
+        return success;
+
+    }
+
+    // an actor drains on a single dispatcher, whichever of its topics a message comes from
+    private Dispatcher getDispatcher(Class<?> componentType, Map<String, String> mappedDispatchers) {
+
+        Dispatcher dispatcher = (null);
+
+        String dispatcherTopic = (null);
 
-            Set<ComponentActor> actors = byTopicActors.getOrDefault(topic, emptySet());
+        for (String topic : mappedDispatchers.keySet()) {
 
-            for (ComponentActor actor : actors) {
-                dispatcher.execute(actor.receive(message));
+            Dispatcher topicDispatcher = getDispatchers().get(topic, mappedDispatchers.get(topic));
+
+            if (isNull(dispatcher)) {
+                dispatcher      = topicDispatcher;
+                dispatcherTopic = topic;
+            } else if (dispatcher != topicDispatcher) {
+                throw new IllegalContractException("[%s] has conflicting dispatchers [%s] for topic [%s] and [%s] for topic [%s]", componentType, dispatcher.getName(), dispatcherTopic, topicDispatcher.getName(), topic);
             }
+        }
 
-            success = success || !actors.isEmpty();
+        return dispatcher;
 
+    }
+
+    private static boolean dispatch(MessageImpl message, ActorRoute[] routes, TopicJournal journal, DeliveryReceipt receipt) {
+
+        if (isNull(journal)) {
+            return dispatch(message, routes, NO_POSITION, receipt);
         }
 
-        return success;
+        long position;
+
+        boolean replayed;
+
+        // a listener may publish to the topic of its own full mailbox, so the monitor never spans a dispatch
+        synchronized (journal) {
+
+            try {
+                position = journal.append(message);
+            } catch (RuntimeException cause) {
+
+                if (isNull(receipt)) {
+                    throw cause;
+                }
+
+                receipt.expect();
+                receipt.failed(cause);
+
+                return false;
+            }
+
+            replayed = journal.isReplayed();
+        }
+
+        if (replayed) {
+            return dispatch(message, routes, position, receipt);
+        }
+
+        if (nonNull(receipt)) {
+            receipt.journaled();
+        }
+
+        return routes.length > 0;
+
+    }
+
+    private static boolean dispatch(MessageImpl message, ActorRoute[] routes, long position, DeliveryReceipt receipt) {
+
+        for (int i = 0; i < routes.length; i++) {
+
+            ActorRoute route = routes[i];
+
+            MessageListenerHandle[] handles = route.getHandles(message.type);
+
+            if (handles.length == 0) {
+                settle(route, position);
+            } else if (isNull(receipt)) {
+                try {
+                    route.actor.receive(message, handles, route, position, null);
+                } catch (RuntimeException cause) {
+
+                    // the routes left behind never see this position, their cursors must not wait for it
+                    for (int j = i + 1; j < routes.length; j++) {
+                        settle(routes[j], position);
+                    }
+
+                    throw cause;
+                }
+            } else {
+
+                receipt.expect();
+
+                try {
+                    route.actor.receive(message, handles, route, position, receipt);
+                } catch (RuntimeException cause) {
+                    receipt.failed(cause);
+                }
+            }
+        }
+
+        return routes.length > 0;
+
+    }
+
+    private static void settle(ActorRoute route, long position) {
+        if (position != NO_POSITION) {
+            route.cursor.ack(position);
+        }
+    }
+
+    private MessageImpl newMessage(Object payload, Set<String> topics) {
+
+        Map<String, String> headers;
+
+        if (payload instanceof PayloadWithHeaders) {
+
+            PayloadWithHeaders payloadWithHeaders = (PayloadWithHeaders) payload;
+
+            headers = payloadWithHeaders.headers;
+            payload = payloadWithHeaders.payload;
+
+        } else {
+            headers = emptyMap();
+        }
+
+        if (isNull(payload)) {
+            return (null);
+        }
+
+        return new MessageImpl(this, payload, headers, topics);
+
+    }
+
+    private ComponentActor newActor(Class<?> componentType, MessageListenerHandle dlqHandle, Map<MessageListenerHandle, RedeliveryPolicy> redeliveryPolicies) {
+
+        Environment environment = getEnvironment();
+
+        String componentName = componentType.getName();
+
+        int capacity = environment.getIntOrDefault(MESSAGING_MAILBOX_CAPACITY_PROPERTY_NAME, DEFAULT_MAILBOX_CAPACITY);
+
+        int throughput = environment.getIntOrDefault(MESSAGING_MAILBOX_THROUGHPUT_PROPERTY_NAME, DEFAULT_MAILBOX_THROUGHPUT);
+
+        capacity = environment.getIntOrDefault(format(MESSAGING_COMPONENT_MAILBOX_CAPACITY_PROPERTY_NAME, componentName), capacity);
+
+        throughput = environment.getIntOrDefault(format(MESSAGING_COMPONENT_MAILBOX_THROUGHPUT_PROPERTY_NAME, componentName), throughput);
+
+        int dlqCapacity = environment.getIntOrDefault(MESSAGING_DLQ_CAPACITY_PROPERTY_NAME, DEFAULT_DLQ_CAPACITY);
+
+        dlqCapacity = environment.getIntOrDefault(format(MESSAGING_COMPONENT_DLQ_CAPACITY_PROPERTY_NAME, componentName), dlqCapacity);
+
+        int lanes = environment.getIntOrDefault(format(MESSAGING_COMPONENT_LANES_PROPERTY_NAME, componentName), DEFAULT_LANES);
+
+        if (lanes == 1) {
+            return new ComponentActorImpl(componentName, capacity, throughput, dlqHandle, dlqCapacity, redeliveryPolicies, this::getTimer);
+        }
+
+        String partitionKey = environment.getProperty(format(MESSAGING_COMPONENT_PARTITION_KEY_PROPERTY_NAME, componentName));
+
+        if (isNull(partitionKey)) {
+            partitionKey = PARTITION_KEY;
+        }
+
+        int laneCapacity = capacity, laneThroughput = throughput, laneDlqCapacity = dlqCapacity;
+
+        PartitionedComponentActor actor = new PartitionedComponentActor(componentName, lanes, partitionKey, lane -> new ComponentActorImpl(format("%s#%d", componentName, lane), laneCapacity, laneThroughput, dlqHandle, laneDlqCapacity, redeliveryPolicies, this::getTimer));
+
+        actor.management = Management.register(actor, format("scg.fusion:type=PartitionedComponent,name=%s,id=%d", ObjectName.quote(componentName), identityHashCode(this)));
+
+        partitionedActors.add(actor);
+
+        return actor;
+
+    }
+
+    private MailboxOverflow getMailboxOverflow(Class<?> componentType, String topic) {
+
+        Environment environment = getEnvironment();
+
+        String componentName = componentType.getName();
+
+        String strategy = environment.getProperty(format(MESSAGING_TOPIC_OVERFLOW_PROPERTY_NAME, topic));
+
+        if (isNull(strategy)) {
+            strategy = environment.getProperty(format(MESSAGING_COMPONENT_MAILBOX_OVERFLOW_PROPERTY_NAME, componentName));
+        }
+
+        if (isNull(strategy)) {
+            strategy = environment.getProperty(MESSAGING_MAILBOX_OVERFLOW_PROPERTY_NAME);
+        }
+
+        int timeout = environment.getIntOrDefault(MESSAGING_MAILBOX_OVERFLOW_TIMEOUT_PROPERTY_NAME, DEFAULT_MAILBOX_OVERFLOW_TIMEOUT_MILLIS);
+
+        timeout = environment.getIntOrDefault(format(MESSAGING_COMPONENT_MAILBOX_OVERFLOW_TIMEOUT_PROPERTY_NAME, componentName), timeout);
+
+        timeout = environment.getIntOrDefault(format(MESSAGING_TOPIC_OVERFLOW_TIMEOUT_PROPERTY_NAME, topic), timeout);
+
+        if (isNull(strategy) && timeout == DEFAULT_MAILBOX_OVERFLOW_TIMEOUT_MILLIS) {
+            return DEFAULT_MAILBOX_OVERFLOW;
+        }
+
+        return MailboxOverflow.of(isNull(strategy) ? BLOCK : strategy, timeout);
+
+    }
+
+    void closeMessaging() {
+
+        for (PartitionedComponentActor actor : partitionedActors) {
+            actor.close();
+        }
+
+        partitionedActors.clear();
+
+        if (nonNull(dispatchers)) {
+            dispatchers.close();
+        }
+
+        if (nonNull(journals)) {
+            journals.close();
+        }
+
+        if (nonNull(timer)) {
+            timer.close();
+        }
+
+        for (PendingRequest request : pendingRequests.values()) {
+            request.fail(new CancellationException("message broker is closed"));
+        }
+    }
+
+    private Journals getJournals() {
+
+        if (isNull(journals)) {
+            journals = new Journals(getEnvironment());
+        }
+
+        return journals;
 
     }
 
-    private static BiFunction<String, Set<ComponentActor>, Set<ComponentActor>> appendActor(ComponentActor actor) {
-        return ($, actors) -> {
+    private TimerWheel getTimer() {
 
-            if (isNull(actors)) {
-                actors = new HashSet<>();
+        TimerWheel timer = this.timer;
+
+        if (isNull(timer)) synchronized (pendingRequests) {
+
+            timer = this.timer;
+
+            if (isNull(timer)) {
+
+                Environment environment = getEnvironment();
+
+                int tick = environment.getIntOrDefault(MESSAGING_TIMER_TICK_PROPERTY_NAME, DEFAULT_TIMER_TICK_MILLIS);
+
+                int wheelSize = environment.getIntOrDefault(MESSAGING_TIMER_WHEEL_SIZE_PROPERTY_NAME, DEFAULT_TIMER_WHEEL_SIZE);
+
+                this.timer = timer = new TimerWheel("fusion-messaging-timer", tick, MILLISECONDS, wheelSize);
             }
+        }
+
+        return timer;
+
+    }
+
+    private Dispatchers getDispatchers() {
 
-            actors.add(actor);
+        if (isNull(dispatchers)) {
+            dispatchers = new Dispatchers(getEnvironment());
+        }
 
-            return actors;
+        return dispatchers;
+
+    }
+
+    private static BiFunction<String, ActorRoute[], ActorRoute[]> appendRoute(ActorRoute route) {
+        return ($, routes) -> {
+
+            if (isNull(routes)) {
+                return new ActorRoute[] { route };
+            }
+
+            ActorRoute[] appended = Arrays.copyOf(routes, routes.length + 1);
+
+            appended[routes.length] = route;
+
+            return appended;
+
+        };
+    }
+
+    private static BiFunction<String, String, String> mergeDispatcherNames(Class<?> componentType, String topic) {
+        return (dispatcherName, otherDispatcherName) -> {
+
+            if (dispatcherName.isEmpty()) {
+                return otherDispatcherName;
+            }
+
+            if (otherDispatcherName.isEmpty() || dispatcherName.equals(otherDispatcherName)) {
+                return dispatcherName;
+            }
+
+            throw new IllegalContractException("[%s] has conflicting dispatchers [%s] and [%s] for topic [%s]", componentType, dispatcherName, otherDispatcherName, topic);
 
         };
     }
@@ -205,6 +711,211 @@ abstract class MessageBrokerImpl implements MessageBroker, MessagePublisher {
         };
     }
 
+    private final class PendingRequest extends CompletableFuture<Object> {
+
+        final String correlationId;
+
+        volatile TimerWheel.Timeout timeout;
+
+        PendingRequest(String correlationId) {
+            this.correlationId = correlationId;
+        }
+
+        boolean reply(Object payload) {
+
+            this.cancelTimeout();
+
+            return complete(payload);
+
+        }
+
+        void expire() {
+            if (pendingRequests.remove(correlationId, this)) {
+                completeExceptionally(new TimeoutException(format("request [%s] timed out", correlationId)));
+            }
+        }
+
+        void fail(Throwable cause) {
+            if (pendingRequests.remove(correlationId, this)) {
+
+                this.cancelTimeout();
+
+                completeExceptionally(cause);
+            }
+        }
+
+        private void cancelTimeout() {
+
+            TimerWheel.Timeout timeout = this.timeout;
+
+            if (nonNull(timeout)) {
+                timeout.cancel();
+            }
+        }
+
+    }
+
+    private final class TopicPublisher implements MessagePublisher {
+
+        private final Set<String> topics;
+
+        TopicPublisher(Set<String> topics) {
+            this.topics = topics;
+        }
+
+        @Override
+        public boolean publish(Object payload) {
+
+            MessageImpl message = newMessage(payload, topics);
+
+            return nonNull(message) && publish0(message);
+
+        }
+
+        @Override
+        public CompletionStage<Boolean> publishAsync(Object payload) {
+
+            DeliveryReceipt receipt = new DeliveryReceipt();
+
+            MessageImpl message = newMessage(payload, topics);
+
+            if (nonNull(message)) {
+                publish0(message, receipt);
+            }
+
+            return receipt.seal();
+
+        }
+
+    }
+
+    private final class PreparedPublisherImpl implements PreparedPublisher {
+
+        private final Set<String> topics;
+
+        private final ActorRoute[][] routes;
+
+        private final TopicJournal[] journals;
+
+        PreparedPublisherImpl(Set<String> topics, ActorRoute[][] routes, TopicJournal[] journals) {
+            this.topics   = topics;
+            this.routes   = routes;
+            this.journals = journals;
+        }
+
+        @Override
+        public boolean publish(Object payload) {
+
+            MessageImpl message = newMessage(payload, topics);
+
+            if (isNull(message)) {
+                return false;
+            }
+
+            boolean success = false;
+
+            for (int i = 0; i < routes.length; i++) {
+                success = dispatch(message, routes[i], journals[i], null) || success;
+            }
+
+            return success;
+
+        }
+
+        @Override
+        public CompletionStage<Boolean> publishAsync(Object payload) {
+
+            DeliveryReceipt receipt = new DeliveryReceipt();
+
+            MessageImpl message = newMessage(payload, topics);
+
+            if (nonNull(message)) {
+                for (int i = 0; i < routes.length; i++) {
+                    dispatch(message, routes[i], journals[i], receipt);
+                }
+            }
+
+            return receipt.seal();
+
+        }
+
+    }
+
+}
+
+final class ActorRoute {
+
+    private static final MessageListenerHandle[] NO_HANDLES = new MessageListenerHandle[0];
+
+    final ComponentActor actor;
+
+    final String consumer;
+
+    final Dispatcher dispatcher;
+
+    final MailboxOverflow overflow;
+
+    JournalCursor cursor;
+
+    private final Map<Class<?>, Set<MessageListenerHandle>> byTypeHandles = new LinkedHashMap<>();
+
+    private final ClassValue<MessageListenerHandle[]> byPayloadTypeHandles = new ClassValue<MessageListenerHandle[]>() {
+        @Override
+        protected MessageListenerHandle[] computeValue(Class<?> payloadType) {
+            return resolveHandles(payloadType);
+        }
+    };
+
+    ActorRoute(ComponentActor actor, String consumer, Dispatcher dispatcher, MailboxOverflow overflow, Map<Type, Set<MessageListenerHandle>> handles) {
+
+        this.actor      = actor;
+        this.consumer   = consumer;
+        this.dispatcher = dispatcher;
+        this.overflow   = overflow;
+
+        for (Type messageType : handles.keySet()) {
+
+            Class<?> rawMessageType = getRawType(messageType);
+
+            if (nonNull(rawMessageType)) {
+                byTypeHandles.computeIfAbsent(rawMessageType, $ -> new LinkedHashSet<>()).addAll(handles.get(messageType));
+            }
+        }
+
+    }
+
+    MessageListenerHandle[] getHandles(Class<?> payloadType) {
+        return byPayloadTypeHandles.get(payloadType);
+    }
+
+    private MessageListenerHandle[] resolveHandles(Class<?> payloadType) {
+
+        Set<MessageListenerHandle> handles = new LinkedHashSet<>();
+
+        for (Class<?> messageType : byTypeHandles.keySet()) {
+            if (messageType.isAssignableFrom(payloadType)) {
+                handles.addAll(byTypeHandles.get(messageType));
+            }
+        }
+
+        return handles.toArray(NO_HANDLES);
+
+    }
+
+    private static Class<?> getRawType(Type messageType) {
+
+        if (messageType instanceof Class) {
+            return (Class<?>) messageType;
+        }
+
+        if (messageType instanceof ParameterizedType) {
+            return getRawType(((ParameterizedType) messageType).getRawType());
+        }
+
+        return (null);
+
+    }
+
 }
 
 final class PayloadWithHeaders {
@@ -224,10 +935,12 @@ final class DeadLetterImpl implements DeadLetter {
 
     final Throwable    cause;
     final MessageImpl message;
+    final int        attempts;
 
-    DeadLetterImpl(Throwable cause, MessageImpl message) {
-        this.cause   =   cause;
-        this.message = message;
+    DeadLetterImpl(Throwable cause, MessageImpl message, int attempts) {
+        this.cause    =    cause;
+        this.message  =  message;
+        this.attempts = attempts;
     }
 
     @Override
@@ -240,6 +953,11 @@ final class DeadLetterImpl implements DeadLetter {
         return this.message;
     }
 
+    @Override
+    public int getAttempts() {
+        return this.attempts;
+    }
+
     @Override
     public String toString() {
         return this.cause.getMessage();
@@ -249,20 +967,22 @@ final class DeadLetterImpl implements DeadLetter {
 
 final class MessageImpl implements Message<Object> {
 
-    private final Function<MessageImpl, Boolean> reply;
-    private final Map<String, String> headers;
+    private final MessageBrokerImpl broker;
     private final Object payload;
 
-    final Type type;
+    final Map<String, String> headers;
+
+    final Class<?> type;
 
-    final Set<String> tags = new HashSet<>();
+    final Set<String> tags;
 
     private final long timestamp = currentTimeMillis();
 
-    MessageImpl(Function<MessageImpl, Boolean> reply, Object payload, Map<String, String> headers) {
-        this.reply   = reply;
+    MessageImpl(MessageBrokerImpl broker, Object payload, Map<String, String> headers, Set<String> tags) {
+        this.broker  = broker;
         this.payload = payload;
         this.headers = headers;
+        this.tags    = tags;
         this.type    = payload.getClass();
     }
 
@@ -283,37 +1003,25 @@ final class MessageImpl implements Message<Object> {
 
     @Override
     public boolean reply(Object payload) {
-        return forall(DEFAULT_TOPIC_NAME).publish(payload);
-    }
 
-    @Override
-    public MessagePublisher forall(String... topics) {
-        return payload -> {
-
-            Map<String, String> headers;
-
-            if (payload instanceof PayloadWithHeaders) {
+        String correlationId = headers.get(CORRELATION_ID);
 
-                PayloadWithHeaders payloadWithHeaders = (PayloadWithHeaders) payload;
-
-                headers = payloadWithHeaders.headers;
-                payload = payloadWithHeaders.payload;
-
-            } else {
-                headers = emptyMap();
-            }
-
-            if (isNull(payload)) {
-                return false;
-            }
+        if (nonNull(correlationId)) {
+            return broker.reply(correlationId, payload);
+        }
 
-            MessageImpl message = new MessageImpl(reply, payload, headers);
+        return forall(DEFAULT_TOPIC_NAME).publish(payload);
 
-            addAll(message.tags, topics);
+    }
 
-            return reply.apply(message);
+    @Override
+    public MessagePublisher forall(String... topics) {
+        return broker.forall(topics);
+    }
 
-        };
+    @Override
+    public <T> CompletionStage<T> request(String topic, Object payload, long timeout, TimeUnit unit) {
+        return broker.request(topic, payload, timeout, unit);
     }
 
     @Override
@@ -105,6 +105,20 @@ final class MethodBody implements Consumer<ClassVisitor> {
         return this;
     }
 
+    // iconst_<i>, bipush, sipush or ldc, whichever is the shortest for the value
+    public MethodBody push(int i) {
+        if (i >= -1 && i <= 5) {
+            instructions.add(methodVisitor -> methodVisitor.visitInsn(ICONST_0 + i));
+        } else if (i >= Byte.MIN_VALUE && i <= Byte.MAX_VALUE) {
+            instructions.add(methodVisitor -> methodVisitor.visitIntInsn(BIPUSH, i));
+        } else if (i >= Short.MIN_VALUE && i <= Short.MAX_VALUE) {
+            instructions.add(methodVisitor -> methodVisitor.visitIntInsn(SIPUSH, i));
+        } else {
+            instructions.add(methodVisitor -> methodVisitor.visitLdcInsn(i));
+        }
+        return this;
+    }
+
     public MethodBody istore(int index) {
         instructions.add(methodVisitor -> methodVisitor.visitVarInsn(ISTORE, index));
         return this;
@@ -192,40 +206,40 @@ final class MethodBody implements Consumer<ClassVisitor> {
 
     // #2d
     public MethodBody aload_3() {
-        instructions.add(methodVisitor -> methodVisitor.visitIntInsn(ALOAD, 3));
+        instructions.add(methodVisitor -> methodVisitor.visitVarInsn(ALOAD, 3));
         return this;
     }
 
     public MethodBody aload_4() {
-        instructions.add(methodVisitor -> methodVisitor.visitIntInsn(ALOAD, 4));
+        instructions.add(methodVisitor -> methodVisitor.visitVarInsn(ALOAD, 4));
         return this;
     }
 
     public MethodBody aload_5() {
-        instructions.add(methodVisitor -> methodVisitor.visitIntInsn(ALOAD, 5));
+        instructions.add(methodVisitor -> methodVisitor.visitVarInsn(ALOAD, 5));
         return this;
     }
 
     public MethodBody aload_6() {
-        instructions.add(methodVisitor -> methodVisitor.visitIntInsn(ALOAD, 6));
+        instructions.add(methodVisitor -> methodVisitor.visitVarInsn(ALOAD, 6));
         return this;
     }
 
     // #2c
     public MethodBody aload_2() {
-        instructions.add(methodVisitor -> methodVisitor.visitIntInsn(ALOAD, 2));
+        instructions.add(methodVisitor -> methodVisitor.visitVarInsn(ALOAD, 2));
         return this;
     }
 
     // #2b
     public MethodBody aload_1() {
-        instructions.add(methodVisitor -> methodVisitor.visitIntInsn(ALOAD, 1));
+        instructions.add(methodVisitor -> methodVisitor.visitVarInsn(ALOAD, 1));
         return this;
     }
 
     // #2a
     public MethodBody aload_0() {
-        instructions.add(methodVisitor -> methodVisitor.visitIntInsn(ALOAD, 0));
+        instructions.add(methodVisitor -> methodVisitor.visitVarInsn(ALOAD, 0));
         return this;
     }
 
@@ -320,6 +334,12 @@ final class MethodBody implements Consumer<ClassVisitor> {
     }
 
 
+    // #b0, the method goes on past a jump label
+    public MethodBody arеturn_early() {
+        instructions.add(methodVisitor -> methodVisitor.visitInsn(ARETURN));
+        return this;
+    }
+
     // #b0
     public void arеturn() {
         instructions.add(methodVisitor -> {
@@ -490,31 +510,31 @@ final class MethodBody implements Consumer<ClassVisitor> {
 
     // #3a
     public MethodBody astore(int index) {
-        instructions.add(methodVisitor -> methodVisitor.visitIntInsn(ASTORE, index));
+        instructions.add(methodVisitor -> methodVisitor.visitVarInsn(ASTORE, index));
         return this;
     }
 
     // 4b
     public MethodBody astore_0() {
-        instructions.add(methodVisitor -> methodVisitor.visitIntInsn(ASTORE, 0));
+        instructions.add(methodVisitor -> methodVisitor.visitVarInsn(ASTORE, 0));
         return this;
     }
 
     // 4c
     public MethodBody astore_1() {
-        instructions.add(methodVisitor -> methodVisitor.visitIntInsn(ASTORE, 1));
+        instructions.add(methodVisitor -> methodVisitor.visitVarInsn(ASTORE, 1));
         return this;
     }
 
     // 4d
     public MethodBody astore_2() {
-        instructions.add(methodVisitor -> methodVisitor.visitIntInsn(ASTORE, 2));
+        instructions.add(methodVisitor -> methodVisitor.visitVarInsn(ASTORE, 2));
         return this;
     }
 
     // 4e
     public MethodBody astore_3() {
-        instructions.add(methodVisitor -> methodVisitor.visitIntInsn(ASTORE, 3));
+        instructions.add(methodVisitor -> methodVisitor.visitVarInsn(ASTORE, 3));
         return this;
     }
 
@@ -698,6 +718,17 @@ final class MethodBody implements Consumer<ClassVisitor> {
         return this;
     }
 
+    public MethodBody if_acmpeq_jump(LabelKey label) {
+
+        Label jumpLabel = new Label();
+
+        labels.put(label, jumpLabel);
+
+        instructions.add(methodVisitor -> methodVisitor.visitJumpInsn(IF_ACMPEQ, jumpLabel));
+
+        return this;
+    }
+
     public MethodBody label(LabelKey label) {
 
         Label jumpLabel = labels.get(label);
@@ -5,15 +5,28 @@ import com.sun.org.apache.bcel.internal.generic.Type;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class MethodJoint implements Joint {
 
+    private static final ClassValue<Map<Method, MethodJoint>> joints = new ClassValue<Map<Method, MethodJoint>>() {
+        @Override
+        protected Map<Method, MethodJoint> computeValue(Class<?> declaringClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private final Method joint;
 
     MethodJoint(Method joint) {
         this.joint = joint;
     }
 
+    static MethodJoint of(Method joint) {
+        return joints.get(joint.getDeclaringClass()).computeIfAbsent(joint, MethodJoint::new);
+    }
+
     public boolean isDefault() {
         return joint.isDefault();
     }
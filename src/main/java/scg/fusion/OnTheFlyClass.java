@@ -37,6 +37,7 @@ abstract class OnTheFlyClass {
     protected static final int ACC_PUBLIC_STATIC = ACC_PUBLIC | ACC_STATIC;
     protected static final int ACC_PRIVATE_STATIC = ACC_PRIVATE | ACC_STATIC;
     protected static final int ACC_PUBLIC_FINAL = ACC_PUBLIC | ACC_FINAL;
+    protected static final int ACC_PROTECTED_FINAL = ACC_PROTECTED | ACC_FINAL;
     protected static final int ACC_PRIVATE_FINAL = ACC_PRIVATE | ACC_FINAL;
 
     protected static final String ctor = "<init>";
@@ -1,25 +1,32 @@
 package scg.fusion;
 
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Type;
 import scg.fusion.annotation.*;
 import scg.fusion.aop.AutowireJoinPoint;
+import scg.fusion.aop.AsyncExecutionJoinPoint;
 import scg.fusion.aop.ExecutionJoinPoint;
 import scg.fusion.cglib.proxy.ExecutionInterceptor;
 import scg.fusion.cglib.proxy.MethodProxy;
+import scg.fusion.cglib.proxy.SuperInvoker;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.*;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.String.format;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 import static org.objectweb.asm.Opcodes.*;
 import static org.objectweb.asm.Type.*;
 import static scg.fusion.LabelKey._1;
+import static scg.fusion.LabelKey._2;
 import static scg.fusion.OnTheFlyClass.MagicAccessorImpl;
 import static scg.fusion.Utils.*;
 import static scg.fusion.Utils.METHOD;
@@ -29,11 +36,24 @@ import static scg.fusion.Verification.*;
 
 public final class OnTheFlyFactory {
 
-    static Map<Method, ExecutionAdvisor> invokerCache = new HashMap<>();
+    // only the advisor classes are shared, instances hold the aspect of the container that created them
+    static ClassValue<Map<Method, Constructor<? extends ExecutionAdvisor>>> invokerCache = new ClassValue<Map<Method, Constructor<? extends ExecutionAdvisor>>>() {
+        @Override
+        protected Map<Method, Constructor<? extends ExecutionAdvisor>> computeValue(Class<?> aspectComponentType) {
+            return new ConcurrentHashMap<>();
+        }
+    };
     static Map<Method, AutowireAdvisor> injectorCache = new HashMap<>();
     static Map<Class<?>, ComponentService> serviceCache = new HashMap<>();
     static Map<Class<?>, Class<?>> aspectSpecImplCache = new HashMap<>();
 
+    static ClassValue<Class<?>> specializedJoinPoints = new ClassValue<Class<?>>() {
+        @Override
+        protected Class<?> computeValue(Class<?> targetType) {
+            return newSpecializedJoinPoint(targetType);
+        }
+    };
+
     private OnTheFlyFactory() {
         throw new UnsupportedOperationException();
     }
@@ -166,7 +186,15 @@ public final class OnTheFlyFactory {
     }
 
     static ExecutionAdvisor newExecutionAdvisor(ExecutionPointcut pointcut, Class<?> aspectComponentType, Method advice, ComponentProvider<?> aspectProvider, int privilegeLevel) {
-        return invokerCache.computeIfAbsent(advice, $ -> {
+        try {
+            return invokerCache.get(aspectComponentType).computeIfAbsent(advice, $ -> newExecutionAdvisorType(aspectComponentType, advice))
+                    .newInstance(aspectProvider, pointcut, advice, privilegeLevel);
+        } catch (Exception cause) {
+            throw new RuntimeException("ExecutionAdvisor instantiation failed", cause);
+        }
+    }
+
+    private static Constructor<? extends ExecutionAdvisor> newExecutionAdvisorType(Class<?> aspectComponentType, Method advice) {
             try {
                 return new OnTheFlyClass("ExecutionAdvisor", MagicAccessorImpl, ExecutionAdvisor.class) {
                     @Override
@@ -174,8 +202,11 @@ public final class OnTheFlyFactory {
 
                         field(ACC_PRIVATE_FINAL, ComponentProvider.class, PROVIDER);
                         field(ACC_PRIVATE_FINAL, ExecutionPointcut.class, POINTCUT);
+                        field(ACC_PRIVATE_FINAL, Method.class, ADVICE);
+                        field(ACC_PRIVATE_FINAL, int.class, PRIVILEGE_LEVEL);
+                        field(ACC_PRIVATE | ACC_VOLATILE, aspectComponentType, ASPECT);
 
-                        ctor(ComponentProvider.class, ExecutionPointcut.class)
+                        ctor(ComponentProvider.class, ExecutionPointcut.class, Method.class, int.class)
                                 .aload_0()
                                 .invoke_special(MagicAccessorImpl, void.class, ctor)
                                 .aload_0()
@@ -184,20 +215,78 @@ public final class OnTheFlyFactory {
                                 .aload_0()
                                 .aload_2()
                                 .put_field(POINTCUT)
+                                .aload_0()
+                                .aload_3()
+                                .put_field(ADVICE)
+                                .aload_0()
+                                .iload(4)
+                                .put_field(PRIVILEGE_LEVEL)
                                 .rеturn();
 
                         method(ACC_PUBLIC_FINAL, int.class, GET_PRIVILEGE_LEVEL)
-                                .ldc(privilegeLevel)
+                                .aload_0()
+                                .get_field(PRIVILEGE_LEVEL)
                                 .irеturn();
 
-                        defineIsWithinGuard(method(ACC_PUBLIC_FINAL, boolean.class, IS_WITHIN_GUARD));
+                        method(ACC_PUBLIC_FINAL, boolean.class, IS_WITHIN_GUARD)
+                                .aload_0()
+                                .get_field(POINTCUT)
+                                .invoke_interface(ExecutionPointcut.class, boolean.class, IS_WITHIN_GUARD)
+                                .irеturn();
+
+                        Class<?>[] parameterTypes = advice.getParameterTypes();
+
+                        method(ACC_PUBLIC_FINAL, Method.class, GET_ADVICE)
+                                .aload_0()
+                                .get_field(ADVICE)
+                                .arеturn();
 
-                        method(ACC_PUBLIC_FINAL, Object.class, ADVISE, ExecutionJoinPoint.class)
+                        method(ACC_PUBLIC_FINAL, Object.class, GET_ASPECT)
+                                .aload_0()
+                                .get_field(ASPECT)
+                                .dup()
+                                .ifnonnull_jump(_1)
+                                .pop()
                                 .aload_0()
                                 .get_field(PROVIDER)
                                 .invoke_interface(ComponentProvider.class, Object.class, GET_COMPONENT)
-                                .aload_1()
-                                .invoke_virtual(aspectComponentType, advice.getReturnType(), advice.getName(), advice.getParameterTypes())
+                                .check_cast(aspectComponentType)
+                                .dup()
+                                .aload_0()
+                                .swap()
+                                .put_field(ASPECT)
+                                .label(_1)
+                                .arеturn();
+
+                        MethodBody advise = method(ACC_PUBLIC_FINAL, Object.class, ADVISE, ExecutionJoinPoint.class, Object[].class)
+                                .aload_0()
+                                .get_field(ASPECT)
+                                .dup()
+                                .ifnonnull_jump(_1)
+                                .pop()
+                                .aload_0()
+                                .get_field(PROVIDER)
+                                .invoke_interface(ComponentProvider.class, Object.class, GET_COMPONENT)
+                                .check_cast(aspectComponentType)
+                                .dup()
+                                .aload_0()
+                                .swap()
+                                .put_field(ASPECT)
+                                .label(_1)
+                                .aload_1();
+
+                        if (isAsyncExecutionCrosscutAdvice(advice)) {
+                            advise.check_cast(AsyncExecutionJoinPoint.class);
+                        }
+
+                        for (int i = 1; i < parameterTypes.length; i++) {
+                            advise.aload_2()
+                                    .push(i - 1)
+                                    .aaload()
+                                    .check_cast(parameterTypes[i]);
+                        }
+
+                        advise.invoke_virtual(aspectComponentType, advice.getReturnType(), advice.getName(), parameterTypes)
                                 .arеturn();
 
                         method(ACC_PUBLIC_FINAL, boolean.class, MATCH, Class.class, Method.class)
@@ -207,27 +296,476 @@ public final class OnTheFlyFactory {
                                 .aload_2()
                                 .invoke_interface(ExecutionPointcut.class, boolean.class, MATCH, Class.class, Method.class)
                                 .irеturn();
+
+                        method(ACC_PUBLIC_FINAL, boolean.class, IS_DYNAMIC)
+                                .aload_0()
+                                .get_field(POINTCUT)
+                                .invoke_interface(ExecutionPointcut.class, boolean.class, IS_DYNAMIC)
+                                .irеturn();
+
+                        method(ACC_PUBLIC_FINAL, boolean.class, MATCH, Class.class, Method.class, Object.class, Object[].class)
+                                .aload_0()
+                                .get_field(POINTCUT)
+                                .aload_1()
+                                .aload_2()
+                                .aload_3()
+                                .aload(4)
+                                .invoke_interface(ExecutionPointcut.class, boolean.class, MATCH, Class.class, Method.class, Object.class, Object[].class)
+                                .irеturn();
+
+                        method(ACC_PUBLIC_FINAL, ExecutionPointcut.class, RESIDUE, Class.class, Method.class)
+                                .aload_0()
+                                .get_field(POINTCUT)
+                                .aload_1()
+                                .aload_2()
+                                .invoke_interface(ExecutionPointcut.class, ExecutionPointcut.class, RESIDUE, Class.class, Method.class)
+                                .arеturn();
                     }
+                }.loadAs(ExecutionAdvisor.class)
+                        .getDeclaredConstructor(ComponentProvider.class, ExecutionPointcut.class, Method.class, int.class);
+            } catch (Exception cause) {
+                throw new RuntimeException("ExecutionAdvisor instantiation failed", cause);
+            }
+    }
+
+    static ExecutionInterceptor newSpecializedExecution(ExecutionAdvisor advisor, MethodJoint joint, Object[] bindings, ExecutionInterceptor advice, MethodProxy proxy) {
+
+        Method adviceMethod = advisor.getAdvice();
+
+        Class<?> aspectType = adviceMethod.getDeclaringClass();
+
+        Class<?>[] parameterTypes = adviceMethod.getParameterTypes();
 
-                    void defineIsWithinGuard(MethodBody methodBody) {
+        // innermost layer binds the super invoker of the proxy it was specialized for
+        SuperInvoker invoker = (isNull(advice) && nonNull(proxy)) ? proxy.getSuperInvoker() : (null);
 
-                        if (pointcut.isWithinGuard()) {
-                            methodBody.icons_1();
-                        } else {
-                            methodBody.icons_0();
+        Class<?> joinPointType = nonNull(advice) ? specializedJoinPoints.get(advice.getClass()) : nonNull(invoker) ? specializedJoinPoints.get(invoker.getClass()) : (null);
+
+        try {
+            return new OnTheFlyClass("SpecializedExecution", MagicAccessorImpl, ExecutionInterceptor.class) {
+                @Override
+                protected void emit() {
+
+                    field(ACC_PRIVATE_FINAL, aspectType, ASPECT);
+                    field(ACC_PRIVATE_FINAL, MethodJoint.class, JOINT);
+                    field(ACC_PRIVATE_FINAL, ExecutionInterceptor.class, ADVICE);
+                    field(ACC_PRIVATE_FINAL, MethodProxy.class, PROXY);
+                    field(ACC_PRIVATE_FINAL, SuperInvoker.class, INVOKER);
+
+                    for (int i = 1; i < parameterTypes.length; i++) {
+                        field(ACC_PRIVATE_FINAL, parameterTypes[i], BINDING + i);
+                    }
+
+                    MethodBody init = ctor(Object.class, MethodJoint.class, ExecutionInterceptor.class, Object[].class, MethodProxy.class, SuperInvoker.class)
+                            .aload_0()
+                            .invoke_special(MagicAccessorImpl, void.class, ctor)
+                            .aload_0()
+                            .aload_1()
+                            .check_cast(aspectType)
+                            .put_field(ASPECT)
+                            .aload_0()
+                            .aload_2()
+                            .put_field(JOINT)
+                            .aload_0()
+                            .aload_3()
+                            .put_field(ADVICE)
+                            .aload_0()
+                            .aload_5()
+                            .put_field(PROXY)
+                            .aload_0()
+                            .aload_6()
+                            .put_field(INVOKER);
+
+                    for (int i = 1; i < parameterTypes.length; i++) {
+                        init.aload_0()
+                                .aload_4()
+                                .push(i - 1)
+                                .aaload()
+                                .check_cast(parameterTypes[i])
+                                .put_field(BINDING + i);
+                    }
+
+                    init.rеturn();
+
+                    MethodBody intercept = method(ACC_PUBLIC_FINAL, Object.class, INTERCEPT, Class.class, Object.class, Method.class, Object[].class, MethodProxy.class);
+
+                    if (nonNull(advice)) {
+                        newJoinPoint(intercept, joinPointType)
+                                .aload_5()
+                                .aload_0()
+                                .get_field(ADVICE)
+                                .aload_4()
+                                .invoke_special(joinPointType, void.class, ctor, Class.class, Object.class, Method.class, MethodJoint.class, MethodProxy.class, ExecutionInterceptor.class, Object[].class);
+                    } else {
+
+                        if (nonNull(invoker)) {
+                            // only the very proxy this layer was specialized for may proceed through its exact super invoker,
+                            // any other one (a chain shared by several enhanced types) takes the generic join point
+                            intercept.aload_0()
+                                    .get_field(PROXY)
+                                    .aload_5()
+                                    .if_acmpeq_jump(_1);
                         }
 
-                        methodBody.irеturn();
+                        newJoinPoint(intercept, ExecutionJoinPointImpl.class)
+                                .aload_5()
+                                .invoke_virtual(MethodProxy.class, SuperInvoker.class, AS_SUPER_INVOKER)
+                                .aload_4()
+                                .invoke_special(ExecutionJoinPointImpl.class, void.class, ctor, Class.class, Object.class, Method.class, MethodJoint.class, SuperInvoker.class, Object[].class);
+
+                        if (nonNull(invoker)) {
+
+                            advise(intercept)
+                                    .arеturn_early()
+                                    .label(_1);
 
+                            newJoinPoint(intercept, joinPointType)
+                                    .aload_0()
+                                    .get_field(INVOKER)
+                                    .aload_4()
+                                    .invoke_special(joinPointType, void.class, ctor, Class.class, Object.class, Method.class, MethodJoint.class, SuperInvoker.class, Object[].class);
+                        }
                     }
 
-                }.loadAs(ExecutionAdvisor.class)
-                        .getDeclaredConstructor(ComponentProvider.class, ExecutionPointcut.class)
-                        .newInstance(aspectProvider, pointcut);
-            } catch (Exception cause) {
-                throw new RuntimeException("ExecutionAdvisor instantiation failed", cause);
+                    advise(intercept)
+                            .arеturn();
+
+                }
+
+                MethodBody newJoinPoint(MethodBody intercept, Class<?> joinPointType) {
+                    return intercept.aload_0()
+                            .get_field(ASPECT)
+                            .nеw(joinPointType)
+                            .dup()
+                            .aload_1()
+                            .aload_2()
+                            .aload_3()
+                            .aload_0()
+                            .get_field(JOINT);
+                }
+
+                MethodBody advise(MethodBody intercept) {
+
+                    for (int i = 1; i < parameterTypes.length; i++) {
+                        intercept.aload_0()
+                                .get_field(BINDING + i);
+                    }
+
+                    return intercept.invoke_instance(adviceMethod);
+                }
+            }.loadAs(ExecutionInterceptor.class)
+                    .getDeclaredConstructor(Object.class, MethodJoint.class, ExecutionInterceptor.class, Object[].class, MethodProxy.class, SuperInvoker.class)
+                    .newInstance(advisor.getAspect(), joint, advice, bindings, proxy, invoker);
+        } catch (Exception cause) {
+            throw new RuntimeException("SpecializedExecution instantiation failed", cause);
+        }
+    }
+
+    /**
+     * A join point subclass proceeding through the exact type of its target, either the next specialized
+     * execution or the super invoker of the original method. The shared join point classes see every target
+     * at their call sites, the subclass is what lets the JIT inline the whole chain and scalar replace the
+     * join point, its argument array and the boxed primitives.
+     */
+    static Class<?> newSpecializedJoinPoint(Class<?> targetType) {
+
+        boolean advised = ExecutionInterceptor.class.isAssignableFrom(targetType);
+
+        try {
+            return new OnTheFlyClass("SpecializedJoinPoint", advised ? AdvisedExecutionJoinPoint.class : ExecutionJoinPointImpl.class) {
+                @Override
+                protected void emit() {
+
+                    if (advised) {
+
+                        ctor(Class.class, Object.class, Method.class, MethodJoint.class, MethodProxy.class, ExecutionInterceptor.class, Object[].class)
+                                .aload_0()
+                                .aload_1()
+                                .aload_2()
+                                .aload_3()
+                                .aload_4()
+                                .aload_5()
+                                .aload_6()
+                                .aload(7)
+                                .invoke_special(AdvisedExecutionJoinPoint.class, void.class, ctor, Class.class, Object.class, Method.class, MethodJoint.class, MethodProxy.class, ExecutionInterceptor.class, Object[].class)
+                                .rеturn();
+
+                        method(ACC_PROTECTED_FINAL, Object.class, INTERCEPT, ExecutionInterceptor.class, Class.class, Object.class, Method.class, Object[].class, MethodProxy.class)
+                                .aload_1()
+                                .check_cast(targetType)
+                                .aload_2()
+                                .aload_3()
+                                .aload_4()
+                                .aload_5()
+                                .aload_6()
+                                .invoke_virtual(targetType, Object.class, INTERCEPT, Class.class, Object.class, Method.class, Object[].class, MethodProxy.class)
+                                .arеturn();
+
+                    } else {
+
+                        ctor(Class.class, Object.class, Method.class, MethodJoint.class, SuperInvoker.class, Object[].class)
+                                .aload_0()
+                                .aload_1()
+                                .aload_2()
+                                .aload_3()
+                                .aload_4()
+                                .aload_5()
+                                .aload_6()
+                                .invoke_special(ExecutionJoinPointImpl.class, void.class, ctor, Class.class, Object.class, Method.class, MethodJoint.class, SuperInvoker.class, Object[].class)
+                                .rеturn();
+
+                        method(ACC_PROTECTED_FINAL, Object.class, INVOKE, SuperInvoker.class, Object.class, Object[].class)
+                                .aload_1()
+                                .check_cast(targetType)
+                                .aload_2()
+                                .aload_3()
+                                .invoke_virtual(targetType, Object.class, INVOKE, Object.class, Object[].class)
+                                .arеturn();
+                    }
+
+                }
+            }.load();
+        } catch (Exception cause) {
+            throw new RuntimeException("SpecializedJoinPoint instantiation failed", cause);
+        }
+    }
+
+    static Pointcut newExecutionMatcher(String returnTypeName, String methodName, String[] paramTypeNames) {
+
+        boolean anyParams = paramTypeNames.length == 1 && paramTypeNames[0].equals(TWO_DOTS);
+
+        Class<?>[] types = new Class<?>[paramTypeNames.length + 1];
+
+        types[0] = resolveTypeName(returnTypeName);
+
+        for (int i = 0; !anyParams && i < paramTypeNames.length; i++) {
+
+            types[i + 1] = resolveTypeName(paramTypeNames[i]);
+
+            if (isNull(types[i + 1]) && paramTypeNames[i].lastIndexOf(PLUS_CHAR) != -1) {
+                throw new RuntimeException(format("Cannot get param type for name [%s]", paramTypeNames[i]));
             }
-        });
+        }
+
+        try {
+            return new OnTheFlyClass("ExecutionMatcher", MagicAccessorImpl, Pointcut.class) {
+                @Override
+                protected void emit() {
+
+                    field(ACC_PRIVATE_FINAL, Class[].class, TYPES);
+
+                    ctor(Class[].class)
+                            .aload_0()
+                            .invoke_special(MagicAccessorImpl, void.class, ctor)
+                            .aload_0()
+                            .aload_1()
+                            .put_field(TYPES)
+                            .rеturn();
+
+                    method(ACC_PUBLIC_FINAL, boolean.class, IS_EXECUTION)
+                            .icons_1()
+                            .irеturn();
+
+                    method(ACC_PUBLIC_FINAL, boolean.class, MATCH, Class.class, Method.class).visit(mv -> {
+
+                        Label mismatch = new Label();
+
+                        if (!methodName.equals(ASTERISK)) {
+                            mv.visitLdcInsn(methodName);
+                            mv.visitVarInsn(ALOAD, 2);
+                            mv.visitMethodInsn(INVOKEVIRTUAL, getInternalName(Method.class), GET_NAME, getMethodDescriptor(getType(String.class)), false);
+                            mv.visitMethodInsn(INVOKEVIRTUAL, getInternalName(String.class), EQUALS, getMethodDescriptor(BOOLEAN_TYPE, getType(Object.class)), false);
+                            mv.visitJumpInsn(IFEQ, mismatch);
+                        }
+
+                        if (!returnTypeName.equals(ASTERISK)) {
+                            mv.visitVarInsn(ALOAD, 2);
+                            mv.visitMethodInsn(INVOKEVIRTUAL, getInternalName(Method.class), GET_RETURN_TYPE, getMethodDescriptor(getType(Class.class)), false);
+                            visitTypeCheck(mv, 0, returnTypeName, mismatch);
+                        }
+
+                        if (!anyParams) {
+
+                            mv.visitVarInsn(ALOAD, 2);
+                            mv.visitMethodInsn(INVOKEVIRTUAL, getInternalName(Method.class), GET_PARAMETER_COUNT, getMethodDescriptor(INT_TYPE), false);
+                            mv.visitLdcInsn(paramTypeNames.length);
+                            mv.visitJumpInsn(IF_ICMPNE, mismatch);
+
+                            if (paramTypeNames.length != 0) {
+
+                                mv.visitVarInsn(ALOAD, 2);
+                                mv.visitMethodInsn(INVOKEVIRTUAL, getInternalName(Method.class), GET_PARAMETER_TYPES, getMethodDescriptor(getType(Class[].class)), false);
+                                mv.visitVarInsn(ASTORE, 3);
+
+                                for (int i = 0; i < paramTypeNames.length; i++) {
+                                    if (!paramTypeNames[i].equals(ASTERISK)) {
+                                        mv.visitVarInsn(ALOAD, 3);
+                                        mv.visitLdcInsn(i);
+                                        mv.visitInsn(AALOAD);
+                                        visitTypeCheck(mv, i + 1, paramTypeNames[i], mismatch);
+                                    }
+                                }
+                            }
+                        }
+
+                        mv.visitInsn(ICONST_1);
+                        mv.visitInsn(IRETURN);
+                        mv.visitLabel(mismatch);
+                        mv.visitInsn(ICONST_0);
+
+                    }).irеturn();
+                }
+
+                // expects the actual type on the stack, consumes it
+                void visitTypeCheck(MethodVisitor mv, int index, String typeName, Label mismatch) {
+
+                    boolean covariant = typeName.lastIndexOf(PLUS_CHAR) != -1;
+
+                    if (isNull(types[index])) {
+                        mv.visitMethodInsn(INVOKEVIRTUAL, getInternalName(Class.class), GET_CANONICAL_NAME, getMethodDescriptor(getType(String.class)), false);
+                        mv.visitLdcInsn(typeName);
+                        mv.visitMethodInsn(INVOKEVIRTUAL, getInternalName(String.class), EQUALS, getMethodDescriptor(BOOLEAN_TYPE, getType(Object.class)), false);
+                        mv.visitJumpInsn(IFEQ, mismatch);
+                        return;
+                    }
+
+                    // the type was resolved through the context class loader, the component may see another class of that name
+                    mv.visitVarInsn(ALOAD, 0);
+                    mv.visitFieldInsn(GETFIELD, slashedClassName, TYPES, getDescriptor(Class[].class));
+                    mv.visitLdcInsn(index);
+                    mv.visitInsn(AALOAD);
+                    mv.visitInsn(covariant ? ICONST_1 : ICONST_0);
+                    mv.visitMethodInsn(INVOKESTATIC, getInternalName(Utils.class), MATCH_TYPE, getMethodDescriptor(BOOLEAN_TYPE, getType(Class.class), getType(Class.class), BOOLEAN_TYPE), false);
+                    mv.visitJumpInsn(IFEQ, mismatch);
+                }
+
+            }.loadAs(Pointcut.class)
+                    .getDeclaredConstructor(Class[].class)
+                    .newInstance((Object) types);
+        } catch (Exception cause) {
+            throw new RuntimeException("ExecutionMatcher instantiation failed", cause);
+        }
+    }
+
+    static Pointcut newArgsMatcher(String[] argTypeNames) {
+
+        int rest = Arrays.asList(argTypeNames).indexOf(TWO_DOTS);
+
+        int argCount = rest == -1 ? argTypeNames.length : argTypeNames.length - 1;
+
+        boolean resolved = true;
+
+        Class<?>[] types = new Class<?>[argTypeNames.length];
+
+        for (int i = 0; i < argTypeNames.length; i++) {
+            if (i != rest && !argTypeNames[i].equals(ASTERISK)) {
+
+                Class<?> type = resolveTypeName(argTypeNames[i]);
+
+                if (isNull(type)) {
+                    resolved = false;
+                } else {
+                    types[i] = getBoxedType(type);
+                }
+            }
+        }
+
+        boolean matchable = resolved;
+
+        try {
+            return new OnTheFlyClass("ArgsMatcher", MagicAccessorImpl, Pointcut.class) {
+                @Override
+                protected void emit() {
+
+                    field(ACC_PRIVATE_FINAL, Class[].class, TYPES);
+
+                    ctor(Class[].class)
+                            .aload_0()
+                            .invoke_special(MagicAccessorImpl, void.class, ctor)
+                            .aload_0()
+                            .aload_1()
+                            .put_field(TYPES)
+                            .rеturn();
+
+                    method(ACC_PUBLIC_FINAL, boolean.class, IS_EXECUTION)
+                            .icons_1()
+                            .irеturn();
+
+                    method(ACC_PUBLIC_FINAL, boolean.class, IS_DYNAMIC)
+                            .icons_1()
+                            .irеturn();
+
+                    method(ACC_PUBLIC_FINAL, boolean.class, MATCH, Class.class, Method.class).visit(mv -> {
+
+                        Label mismatch = new Label();
+
+                        if (matchable) {
+                            mv.visitVarInsn(ALOAD, 2);
+                            mv.visitMethodInsn(INVOKEVIRTUAL, getInternalName(Method.class), GET_PARAMETER_COUNT, getMethodDescriptor(INT_TYPE), false);
+                            mv.visitLdcInsn(argCount);
+                            mv.visitJumpInsn(rest == -1 ? IF_ICMPNE : IF_ICMPLT, mismatch);
+                            mv.visitInsn(ICONST_1);
+                            mv.visitInsn(IRETURN);
+                        }
+
+                        mv.visitLabel(mismatch);
+                        mv.visitInsn(ICONST_0);
+
+                    }).irеturn();
+
+                    // residual test, runs before any join point is allocated
+                    method(ACC_PUBLIC_FINAL, boolean.class, MATCH, Class.class, Method.class, Object.class, Object[].class).visit(mv -> {
+
+                        Label mismatch = new Label();
+
+                        if (matchable) {
+
+                            mv.visitVarInsn(ALOAD, 4);
+                            mv.visitInsn(ARRAYLENGTH);
+                            mv.visitLdcInsn(argCount);
+                            mv.visitJumpInsn(rest == -1 ? IF_ICMPNE : IF_ICMPLT, mismatch);
+
+                            for (int i = 0; i < types.length; i++) {
+
+                                if (isNull(types[i])) {
+                                    continue;
+                                }
+
+                                mv.visitVarInsn(ALOAD, 0);
+                                mv.visitFieldInsn(GETFIELD, slashedClassName, TYPES, getDescriptor(Class[].class));
+                                mv.visitLdcInsn(i);
+                                mv.visitInsn(AALOAD);
+                                mv.visitVarInsn(ALOAD, 4);
+
+                                if (rest == -1 || i < rest) {
+                                    mv.visitLdcInsn(i);
+                                } else {
+                                    mv.visitVarInsn(ALOAD, 4);
+                                    mv.visitInsn(ARRAYLENGTH);
+                                    mv.visitLdcInsn(types.length - i);
+                                    mv.visitInsn(ISUB);
+                                }
+
+                                mv.visitInsn(AALOAD);
+                                mv.visitMethodInsn(INVOKEVIRTUAL, getInternalName(Class.class), IS_INSTANCE, getMethodDescriptor(BOOLEAN_TYPE, getType(Object.class)), false);
+                                mv.visitJumpInsn(IFEQ, mismatch);
+                            }
+
+                            mv.visitInsn(ICONST_1);
+                            mv.visitInsn(IRETURN);
+                        }
+
+                        mv.visitLabel(mismatch);
+                        mv.visitInsn(ICONST_0);
+
+                    }).irеturn();
+                }
+            }.loadAs(Pointcut.class)
+                    .getDeclaredConstructor(Class[].class)
+                    .newInstance((Object) types);
+        } catch (Exception cause) {
+            throw new RuntimeException("ArgsMatcher instantiation failed", cause);
+        }
     }
 
     static AutowireAdvisor newAutowireAdvisor(AutowirePointcut pointcut, Class<?> aspectComponentType, Method advice, ComponentProvider<?> aspectProvider, int privilegeLevel) {
@@ -375,6 +913,58 @@ public final class OnTheFlyFactory {
         }
     }
 
+    static SuperInvoker newSuperInvoker(Class<?> enhancedComponentType, Method method, String superName) {
+        return newSuperInvoker(enhancedComponentType, method, superName, false);
+    }
+
+    static SuperInvoker newSuperInvoker(Class<?> enhancedComponentType, Method method, String superName, boolean special) {
+        try {
+            return new OnTheFlyClass("SuperInvoker", MagicAccessorImpl, SuperInvoker.class) {
+                @Override
+                protected void emit() {
+                    null_ctor();
+                    defineInvoke(method(ACC_PUBLIC_FINAL, Object.class, INVOKE, Object.class, Object[].class));
+                }
+
+                void defineInvoke(MethodBody body) {
+
+                    Class<?>[] parameterTypes = method.getParameterTypes();
+
+                    Class<?> returnType = method.getReturnType();
+
+                    body.aload_1()
+                            .check_cast(enhancedComponentType);
+
+                    for (int i = 0; i < parameterTypes.length; i++) {
+                        body.aload_2()
+                                .push(i)
+                                .aaload()
+                                .check_cast(getBoxedType(parameterTypes[i]))
+                                .visit(unboxing(parameterTypes[i]));
+                    }
+
+                    if (special) {
+                        body.invoke_special(enhancedComponentType, returnType, superName, parameterTypes);
+                    } else {
+                        body.invoke_virtual(enhancedComponentType, returnType, superName, parameterTypes);
+                    }
+
+                    if (returnType == void.class) {
+                        body.aconst_null();
+                    } else {
+                        body.visit(boxing(returnType));
+                    }
+
+                    body.arеturn();
+
+                }
+
+            }.loadAs(SuperInvoker.class).newInstance();
+        } catch (Exception cause) {
+            throw new RuntimeException("SuperInvoker instantiation failed", cause);
+        }
+    }
+
     static <T> ComponentProvider<T> newAllocator(Class<T> componentType) {
         try {
             return new OnTheFlyClass("Allocator", MagicAccessorImpl, ComponentProvider.class) {
@@ -522,7 +1112,7 @@ public final class OnTheFlyFactory {
                     body.aload_1();
                     for (int i = 0; i < parameterTypes.length; i++) {
                         body.aload_2()
-                                .bipush(i)
+                                .push(i)
                                 .aaload()
                                 .visit(unboxing(parameterTypes[i]));
                     }
@@ -753,12 +1343,16 @@ public final class OnTheFlyFactory {
         }
     }
 
-    static ComponentWiring newComponentWiring(Class<?> componentType, AutowireInterceptor advice, Map<String, Field> autowiring, ComponentFactory components) {
+    static ComponentWiring newComponentWiring(Class<?> componentType, Map<Field, AutowireInterceptor> autowiring, ComponentFactory components) {
 
         if (!hasAutowiredFields(componentType) && autowiring.isEmpty()) {
             return ComponentWiring.NO_OP_WIRING;
         }
 
+        Field[] fields = autowiring.keySet().toArray(new Field[0]);
+
+        AutowireInterceptor[] chains = autowiring.values().toArray(new AutowireInterceptor[0]);
+
         try {
             return new OnTheFlyClass("EnhancedComponentWiring", MagicAccessorImpl, ComponentWiring.class) {
 
@@ -768,35 +1362,30 @@ public final class OnTheFlyFactory {
                     Class<?> actualComponentType = getActualComponentType(componentType);
 
                     field(ACC_PRIVATE_FINAL, ComponentFactory.class, COMPONENTS);
-                    field(ACC_PRIVATE_FINAL, AutowireInterceptor.class, ADVICE);
-                    field(ACC_PRIVATE_FINAL, Map.class, JOIN_POINTS);
 
-                    ctor(AutowireInterceptor.class, ComponentFactory.class, Map.class)
-                            .aload_0()
-                            .invoke_special(MagicAccessorImpl, void.class, ctor)
-                            .aload_0()
-                            .aload_1()
-                            .put_field(ADVICE)
-                            .aload_0()
-                            .aload_2()
-                            .put_field(COMPONENTS)
-                            .aload_0()
-                            .aload_3()
-                            .put_field(JOIN_POINTS)
-                            .rеturn();
+                    for (int i = 0; i < fields.length; i++) {
+                        field(ACC_PRIVATE_FINAL, Field.class, FIELD + i);
+                        field(ACC_PRIVATE_FINAL, AutowireInterceptor.class, ADVICE + i);
+                    }
+
+                    emitCtor(ctor(ComponentFactory.class, Field[].class, AutowireInterceptor[].class));
 
                     method(ACC_PUBLIC_FINAL, void.class, WIRE, Object.class).visit(mv -> {
 
-                        for (Field field : autowiring.values()) {
+                        Set<String> advised = new HashSet<>();
+
+                        for (int i = 0; i < fields.length; i++) {
+
+                            Field field = fields[i];
+
+                            advised.add(field.getName());
 
                             mv.visitVarInsn(ALOAD, 1);
                             mv.visitVarInsn(ALOAD, 0);
-                            mv.visitFieldInsn(GETFIELD, slashedClassName, ADVICE, getDescriptor(AutowireInterceptor.class));
+                            mv.visitFieldInsn(GETFIELD, slashedClassName, ADVICE + i, getDescriptor(AutowireInterceptor.class));
                             mv.visitVarInsn(ALOAD, 1);
                             mv.visitVarInsn(ALOAD, 0);
-                            mv.visitFieldInsn(GETFIELD, slashedClassName, JOIN_POINTS, getDescriptor(Map.class));
-                            mv.visitLdcInsn(field.getName());
-                            mv.visitMethodInsn(INVOKEINTERFACE, getInternalName(Map.class), GET, getMethodDescriptor(getType(Object.class), getType(Object.class)), true);
+                            mv.visitFieldInsn(GETFIELD, slashedClassName, FIELD + i, getDescriptor(Field.class));
                             mv.visitVarInsn(ALOAD, 0);
                             mv.visitFieldInsn(GETFIELD, slashedClassName, COMPONENTS, getDescriptor(ComponentFactory.class));
 
@@ -816,7 +1405,7 @@ public final class OnTheFlyFactory {
                         }
 
                         for (Field field : listVerifiedInjectPoints(actualComponentType)) {
-                            if (!autowiring.containsKey(field.getName())) {
+                            if (!advised.contains(field.getName())) {
 
                                 mv.visitVarInsn(ALOAD, 1);
                                 mv.visitVarInsn(ALOAD, 0);
@@ -838,9 +1427,36 @@ public final class OnTheFlyFactory {
                         mv.visitInsn(RETURN);
                     });
                 }
+
+                void emitCtor(MethodBody body) {
+
+                    body.aload_0()
+                        .invoke_special(MagicAccessorImpl, void.class, ctor)
+                        .aload_0()
+                        .aload_1()
+                        .put_field(COMPONENTS);
+
+                    for (int i = 0; i < fields.length; i++) {
+                        body.aload_0()
+                            .aload_2()
+                            .push(i)
+                            .aaload()
+                            .check_cast(Field.class)
+                            .put_field(FIELD + i)
+                            .aload_0()
+                            .aload_3()
+                            .push(i)
+                            .aaload()
+                            .check_cast(AutowireInterceptor.class)
+                            .put_field(ADVICE + i);
+                    }
+
+                    body.rеturn();
+
+                }
             }.loadAs(ComponentWiring.class)
-                    .getDeclaredConstructor(AutowireInterceptor.class, ComponentFactory.class, Map.class)
-                    .newInstance(advice, components, autowiring);
+                    .getDeclaredConstructor(ComponentFactory.class, Field[].class, AutowireInterceptor[].class)
+                    .newInstance(components, fields, chains);
         } catch (Exception cause) {
             throw new RuntimeException("EnhancedComponentWiring instantiation failed", cause);
         }
@@ -0,0 +1,189 @@
+package scg.fusion;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import scg.fusion.exceptions.IllegalContractException;
+import scg.fusion.messaging.Partitioned;
+
+import javax.management.ObjectName;
+import java.util.Objects;
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.function.IntFunction;
+
+import static java.lang.Math.floorMod;
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+final class PartitionedComponentActor implements ComponentActor, PartitionedComponentMXBean {
+
+    static final int DEFAULT_LANES = 1;
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionedComponentActor.class);
+
+    static final int UNKEYED_LANE = 0;
+
+    private static final int SKEW_REPORT_INTERVAL = 1 << 16;
+
+    private static final double SKEW_WARNING_THRESHOLD = 2.0;
+
+    private static final ClassValue<Boolean> identityKeys = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> keyType) {
+            try {
+                return keyType.getMethod("hashCode").getDeclaringClass() == Object.class || keyType.getMethod("equals", Object.class).getDeclaringClass() == Object.class;
+            } catch (NoSuchMethodException cause) {
+                throw new IllegalStateException(cause);
+            }
+        }
+    };
+
+    private final String name;
+
+    private final String partitionKey;
+
+    private final ComponentActor[] lanes;
+
+    // stats only, publishers of different lanes never write the same counter cell
+    private final LongAdder[] received;
+
+    private final Set<Class<?>> identityKeyTypes = ConcurrentHashMap.newKeySet();
+
+    private final Set<Class<?>> unkeyedTypes = ConcurrentHashMap.newKeySet();
+
+    ObjectName management;
+
+    PartitionedComponentActor(String name, int lanes, String partitionKey, IntFunction<ComponentActor> laneFactory) {
+
+        if (lanes <= 1) {
+            throw new IllegalContractException("partitioned component [%s] must have more than one lane, but [%d] given", name, lanes);
+        }
+
+        this.name         = name;
+        this.partitionKey = partitionKey;
+        this.lanes        = new ComponentActor[lanes];
+        this.received     = new LongAdder[lanes];
+
+        for (int i = 0; i < lanes; i++) {
+            this.lanes[i]    = laneFactory.apply(i);
+            this.received[i] = new LongAdder();
+        }
+
+    }
+
+    @Override
+    public boolean receive(MessageImpl message, MessageListenerHandle[] handles, ActorRoute route, long position, DeliveryReceipt receipt) {
+
+        if (isNull(message)) {
+            return false;
+        }
+
+        int lane = getLane(message);
+
+        received[lane].increment();
+
+        // sampled rather than counted, a shared total would be contended by every publisher
+        if (ThreadLocalRandom.current().nextInt(SKEW_REPORT_INTERVAL) == 0) {
+            this.reportSkew();
+        }
+
+        return lanes[lane].receive(message, handles, route, position, receipt);
+
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getPartitionKey() {
+        return partitionKey;
+    }
+
+    @Override
+    public int getLanes() {
+        return lanes.length;
+    }
+
+    @Override
+    public long[] getLaneLoads() {
+
+        long[] loads = new long[lanes.length];
+
+        for (int i = 0; i < loads.length; i++) {
+            loads[i] = received[i].sum();
+        }
+
+        return loads;
+
+    }
+
+    @Override
+    public double getLaneSkew() {
+
+        long max = 0L, sum = 0L;
+
+        for (long load : getLaneLoads()) {
+            max = Math.max(max, load);
+            sum += load;
+        }
+
+        return (sum == 0L) ? 1.0 : ((double) max * lanes.length / sum);
+
+    }
+
+    private int getLane(MessageImpl message) {
+
+        Object key = message.headers.get(partitionKey);
+
+        if (isNull(key)) {
+
+            Object payload = message.payload();
+
+            // two updates of the same entity are different payloads, hashing them would reorder them, so they share a lane
+            if (!(payload instanceof Partitioned)) {
+
+                if (nonNull(payload) && unkeyedTypes.add(payload.getClass())) {
+                    log.warn("Messages of type [{}] to [{}] carry neither the [{}] header nor [{}], they are all received on lane [{}]", payload.getClass().getName(), name, partitionKey, Partitioned.class.getName(), UNKEYED_LANE);
+                }
+
+                return UNKEYED_LANE;
+            }
+
+            key = ((Partitioned) payload).getPartitionKey();
+
+            // equal keys of such a type land on random lanes, so their messages lose their relative order
+            if (nonNull(key) && identityKeys.get(key.getClass()) && identityKeyTypes.add(key.getClass())) {
+                log.warn("Partition key type [{}] of [{}] does not override equals and hashCode, set the [{}] header or return a value key instead", key.getClass().getName(), name, partitionKey);
+            }
+        }
+
+        int hash = Objects.hashCode(key);
+
+        return floorMod(hash ^ (hash >>> 16), lanes.length);
+
+    }
+
+    void close() {
+        Management.unregister(management);
+    }
+
+    private void reportSkew() {
+
+        double skew = getLaneSkew();
+
+        if (skew >= SKEW_WARNING_THRESHOLD) {
+            log.warn("Lanes of [{}] are skewed by [{}]: {}", name, format("%.2f", skew), getLaneLoads());
+        } else if (log.isDebugEnabled()) {
+            log.debug("Lanes of [{}] are skewed by [{}]: {}", name, format("%.2f", skew), getLaneLoads());
+        }
+
+    }
+
+}
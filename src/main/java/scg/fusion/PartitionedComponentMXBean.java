@@ -0,0 +1,15 @@
+package scg.fusion;
+
+public interface PartitionedComponentMXBean {
+
+    String getName();
+
+    String getPartitionKey();
+
+    int getLanes();
+
+    long[] getLaneLoads();
+
+    double getLaneSkew();
+
+}
@@ -0,0 +1,76 @@
+package scg.fusion;
+
+import scg.fusion.annotation.MessageListener;
+import scg.fusion.exceptions.IllegalContractException;
+
+import java.lang.reflect.Method;
+
+import static java.lang.Math.min;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+final class RedeliveryPolicy {
+
+    private final int attempts;
+
+    private final long backoffNanos;
+
+    private final double multiplier;
+
+    private final long maxBackoffNanos;
+
+    private final Class<? extends Throwable>[] retryOn;
+
+    private final Class<? extends Throwable>[] noRetryOn;
+
+    private RedeliveryPolicy(MessageListener listener) {
+        this.attempts        = listener.attempts();
+        this.backoffNanos    = MILLISECONDS.toNanos(listener.backoff());
+        this.multiplier      = listener.multiplier();
+        this.maxBackoffNanos = MILLISECONDS.toNanos(listener.maxBackoff());
+        this.retryOn         = listener.retryOn();
+        this.noRetryOn       = listener.noRetryOn();
+    }
+
+    boolean shouldRedeliver(int attempt, Throwable cause) {
+
+        if (attempt >= attempts) {
+            return false;
+        }
+
+        for (Class<? extends Throwable> causeType : noRetryOn) {
+            if (causeType.isInstance(cause)) {
+                return false;
+            }
+        }
+
+        if (retryOn.length == 0) {
+            return true;
+        }
+
+        for (Class<? extends Throwable> causeType : retryOn) {
+            if (causeType.isInstance(cause)) {
+                return true;
+            }
+        }
+
+        return false;
+
+    }
+
+    long getDelayNanos(int attempt) {
+        return (long) min(backoffNanos * Math.pow(multiplier, attempt - 1), maxBackoffNanos);
+    }
+
+    static RedeliveryPolicy of(Method method) {
+
+        MessageListener listener = method.getAnnotation(MessageListener.class);
+
+        if (listener.attempts() < 1 || listener.backoff() < 0L || listener.maxBackoff() < listener.backoff() || listener.multiplier() < 1.0) {
+            throw new IllegalContractException("illegal redelivery policy of message listener [%s] (attempts >= 1, 0 <= backoff <= maxBackoff, multiplier >= 1 expected)", method);
+        }
+
+        return (listener.attempts() == 1) ? (null) : new RedeliveryPolicy(listener);
+
+    }
+
+}
@@ -0,0 +1,34 @@
+package scg.fusion;
+
+import scg.fusion.exceptions.JournalException;
+import scg.fusion.messaging.PayloadCodec;
+
+import java.io.*;
+
+final class SerializationPayloadCodec implements PayloadCodec {
+
+    @Override
+    public byte[] encode(Object payload) {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(payload);
+        } catch (IOException cause) {
+            throw new JournalException(cause);
+        }
+
+        return bytes.toByteArray();
+
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return input.readObject();
+        } catch (IOException | ClassNotFoundException cause) {
+            throw new JournalException(cause);
+        }
+    }
+
+}
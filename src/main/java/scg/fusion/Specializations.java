@@ -0,0 +1,62 @@
+package scg.fusion;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.Integer.getInteger;
+import static scg.fusion.Utils.SPECIALIZATION_LIMIT_PROPERTY_NAME;
+import static scg.fusion.Utils.SPECIALIZATION_THRESHOLD_PROPERTY_NAME;
+
+final class Specializations {
+
+    // the generic chain is shared by every execution, so its type profile gets polluted the moment C2 looks at it,
+    // specializing before the tier thresholds (~200 invocations) keeps the profile clean and the join point scalar replaced
+    static final int DEFAULT_THRESHOLD = 128;
+
+    // the budget is first-come: chains made hot by startup may take every slot, a slot comes back only when
+    // a specialized chain is refreshed, and is then handed to the next chain still asking for one
+    static final int DEFAULT_LIMIT = 64;
+
+    private final int threshold;
+
+    private final AtomicInteger budget;
+
+    Specializations(int threshold, int limit) {
+        this.threshold = threshold;
+        this.budget    = new AtomicInteger(limit);
+    }
+
+    static Specializations of(Environment environment) {
+
+        int threshold = environment.getIntOrDefault(SPECIALIZATION_THRESHOLD_PROPERTY_NAME, getInteger(SPECIALIZATION_THRESHOLD_PROPERTY_NAME, DEFAULT_THRESHOLD));
+
+        int limit = environment.getIntOrDefault(SPECIALIZATION_LIMIT_PROPERTY_NAME, getInteger(SPECIALIZATION_LIMIT_PROPERTY_NAME, DEFAULT_LIMIT));
+
+        return new Specializations(threshold, limit);
+
+    }
+
+    int getThreshold() {
+        return threshold;
+    }
+
+    boolean isEnabled() {
+        return threshold > 0;
+    }
+
+    boolean acquire() {
+
+        for (int left = budget.get(); left > 0; left = budget.get()) {
+            if (budget.compareAndSet(left, left - 1)) {
+                return true;
+            }
+        }
+
+        return false;
+
+    }
+
+    void release() {
+        budget.incrementAndGet();
+    }
+
+}
@@ -0,0 +1,180 @@
+package scg.fusion;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.Integer.highestOneBit;
+import static java.lang.Math.max;
+import static java.lang.System.nanoTime;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+
+final class TimerWheel implements AutoCloseable, Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(TimerWheel.class);
+
+    private final long tickNanos;
+
+    private final int mask;
+
+    private final Bucket[] buckets;
+
+    private final Queue<Timeout> registrations = new ConcurrentLinkedQueue<>();
+
+    private final long startTime = nanoTime();
+
+    private final Thread worker;
+
+    private volatile boolean closed;
+
+    private long tick;
+
+    TimerWheel(String name, long tickDuration, TimeUnit unit, int size) {
+
+        size = (size <= 1) ? 1 : highestOneBit(size - 1) << 1;
+
+        this.tickNanos = max(unit.toNanos(tickDuration), 1L);
+        this.mask      = size - 1;
+        this.buckets   = new Bucket[size];
+
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new Bucket();
+        }
+
+        this.worker = new Thread(this, name);
+
+        this.worker.setDaemon(true);
+        this.worker.start();
+
+    }
+
+    Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+
+        Timeout timeout = new Timeout(task, nanoTime() - startTime + unit.toNanos(delay));
+
+        registrations.add(timeout);
+
+        return timeout;
+
+    }
+
+    @Override
+    public void run() {
+        while (!closed) {
+
+            long deadline = tickNanos * (tick + 1);
+
+            long sleepNanos;
+
+            while (!closed && (sleepNanos = deadline - (nanoTime() - startTime)) > 0L) {
+                parkNanos(this, sleepNanos);
+            }
+
+            this.transferRegistrations();
+
+            buckets[(int) tick & mask].expire();
+
+            tick++;
+        }
+    }
+
+    @Override
+    public void close() {
+
+        closed = true;
+
+        worker.interrupt();
+
+    }
+
+    private void transferRegistrations() {
+
+        Timeout timeout;
+
+        while (nonNull(timeout = registrations.poll())) {
+
+            if (timeout.isCancelled()) {
+                continue;
+            }
+
+            long expirationTick = max(timeout.deadline / tickNanos, tick);
+
+            timeout.rounds = (expirationTick - tick) / buckets.length;
+
+            buckets[(int) expirationTick & mask].timeouts.add(timeout);
+        }
+    }
+
+    private static final class Bucket {
+
+        final ArrayDeque<Timeout> timeouts = new ArrayDeque<>();
+
+        void expire() {
+            for (int i = timeouts.size(); i > 0; i--) {
+
+                Timeout timeout = timeouts.poll();
+
+                if (timeout.isCancelled()) {
+                    continue;
+                }
+
+                if (timeout.rounds > 0L) {
+
+                    timeout.rounds--;
+
+                    timeouts.add(timeout);
+
+                } else {
+                    timeout.expire();
+                }
+            }
+        }
+
+    }
+
+    static final class Timeout {
+
+        private static final int PENDING   = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED   = 2;
+
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        private final Runnable task;
+
+        private final long deadline;
+
+        private long rounds;
+
+        Timeout(Runnable task, long deadline) {
+            this.task     = task;
+            this.deadline = deadline;
+        }
+
+        boolean cancel() {
+            return state.compareAndSet(PENDING, CANCELLED);
+        }
+
+        boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        private void expire() {
+            if (state.compareAndSet(PENDING, EXPIRED)) {
+                try {
+                    task.run();
+                } catch (Throwable cause) {
+                    log.warn("Timeout task [{}] failed", task, cause);
+                }
+            }
+        }
+
+    }
+
+}
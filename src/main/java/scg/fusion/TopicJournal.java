@@ -0,0 +1,504 @@
+package scg.fusion;
+
+import scg.fusion.exceptions.JournalException;
+import scg.fusion.messaging.PayloadCodec;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.*;
+import java.util.zip.CRC32;
+
+import static java.lang.String.format;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+final class TopicJournal implements AutoCloseable {
+
+    static final long NO_POSITION = -1L;
+
+    private static final String SEGMENT_SUFFIX = ".segment";
+
+    private static final String CURSOR_SUFFIX  = ".cursor";
+
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    private final String topic;
+
+    private final File directory;
+
+    private final int segmentSize;
+
+    private final PayloadCodec codec;
+
+    private final boolean syncWrites;
+
+    private final List<JournalSegment> segments = new ArrayList<>();
+
+    private final List<JournalCursor> cursors = new ArrayList<>();
+
+    private long position;
+
+    private boolean replayed;
+
+    TopicJournal(String topic, File root, int segmentSize, PayloadCodec codec, boolean syncWrites) {
+
+        this.topic       = topic;
+        this.directory   = new File(root, toFileName(topic));
+        this.segmentSize = segmentSize;
+        this.codec       = codec;
+        this.syncWrites  = syncWrites;
+
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new JournalException("cannot create journal directory [%s] of topic [%s]", directory, topic);
+        }
+
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(SEGMENT_SUFFIX));
+
+        if (isNull(files) || files.length == 0) {
+            segments.add(new JournalSegment(new File(directory, toSegmentName(0L)), 0L, segmentSize));
+        } else {
+
+            Arrays.sort(files);
+
+            for (File file : files) {
+
+                String name = file.getName();
+
+                segments.add(new JournalSegment(file, Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())), segmentSize));
+            }
+        }
+
+        JournalSegment active = getActiveSegment();
+
+        this.position = active.base + active.recover();
+
+    }
+
+    String getTopic() {
+        return topic;
+    }
+
+    synchronized JournalCursor newCursor(String consumer) {
+
+        JournalCursor cursor = new JournalCursor(new File(directory, toFileName(consumer) + CURSOR_SUFFIX), getFirstSegment().base, position, syncWrites);
+
+        cursors.add(cursor);
+
+        return cursor;
+
+    }
+
+    long append(MessageImpl message) {
+
+        byte[] record = encode(message);
+
+        int length = RECORD_HEADER_SIZE + record.length;
+
+        if (length > segmentSize) {
+            throw new JournalException("message of [%d] bytes exceeds journal segment size [%d] of topic [%s]", length, segmentSize, topic);
+        }
+
+        JournalSegment active = getActiveSegment();
+
+        if (position - active.base + length > segmentSize) {
+
+            active.force();
+
+            active = new JournalSegment(new File(directory, toSegmentName(active.base + segmentSize)), active.base + segmentSize, segmentSize);
+
+            segments.add(active);
+
+            position = active.base;
+        }
+
+        active.write((int) (position - active.base), record);
+
+        if (syncWrites) {
+            active.force();
+        }
+
+        position += length;
+
+        // replayed cursors settle positions in journal order, not in the order publishers reach the mailboxes
+        if (replayed) {
+            for (JournalCursor cursor : cursors) {
+                cursor.expect(position);
+            }
+        }
+
+        return position;
+
+    }
+
+    boolean isReplayed() {
+        return replayed;
+    }
+
+    synchronized long expectBacklog(JournalCursor cursor) {
+
+        long from = cursor.getPosition();
+
+        this.scan(segments, from, position, (position, record) -> cursor.expect(position));
+
+        return from;
+
+    }
+
+    synchronized long markReplayed() {
+
+        this.replayed = true;
+
+        return position;
+
+    }
+
+    // records below a position returned by markReplayed are never rewritten, so they are read without the monitor
+    void replay(long from, long to, RecordConsumer consumer) {
+        this.scan(listSegments(), from, to, consumer);
+    }
+
+    synchronized void flush() {
+
+        for (JournalSegment segment : segments) {
+            segment.force();
+        }
+
+        long retained = getActiveSegment().base;
+
+        for (JournalCursor cursor : cursors) {
+
+            cursor.force();
+
+            retained = Math.min(retained, cursor.getPosition());
+        }
+
+        while (segments.size() > 1 && segments.get(0).base + segmentSize <= retained) {
+            segments.remove(0).delete();
+        }
+
+    }
+
+    MessageImpl decode(MessageBrokerImpl broker, byte[] record) {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(record))) {
+
+            Map<String, String> headers = new HashMap<>();
+
+            for (int i = input.readInt(); i > 0; i--) {
+                headers.put(input.readUTF(), input.readUTF());
+            }
+
+            byte[] payload = new byte[input.readInt()];
+
+            input.readFully(payload);
+
+            return new MessageImpl(broker, codec.decode(payload), headers, Collections.singleton(topic));
+
+        } catch (IOException cause) {
+            throw new JournalException(cause);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        this.flush();
+    }
+
+    private byte[] encode(MessageImpl message) {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+
+            Map<String, String> headers = message.headers;
+
+            output.writeInt(headers.size());
+
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                output.writeUTF(header.getKey());
+                output.writeUTF(header.getValue());
+            }
+
+            byte[] payload = codec.encode(message.payload());
+
+            output.writeInt(payload.length);
+            output.write(payload);
+
+        } catch (IOException cause) {
+            throw new JournalException(cause);
+        }
+
+        return bytes.toByteArray();
+
+    }
+
+    private synchronized List<JournalSegment> listSegments() {
+        return new ArrayList<>(segments);
+    }
+
+    private void scan(List<JournalSegment> segments, long from, long to, RecordConsumer consumer) {
+        for (JournalSegment segment : segments) {
+
+            if (segment.base + segmentSize <= from) {
+                continue;
+            }
+
+            int offset = (int) Math.max(from - segment.base, 0L);
+
+            while (segment.base + offset < to) {
+
+                byte[] record = segment.read(offset);
+
+                if (isNull(record)) {
+                    break;
+                }
+
+                offset += RECORD_HEADER_SIZE + record.length;
+
+                consumer.accept(segment.base + offset, record);
+            }
+        }
+    }
+
+    private JournalSegment getFirstSegment() {
+        return segments.get(0);
+    }
+
+    private JournalSegment getActiveSegment() {
+        return segments.get(segments.size() - 1);
+    }
+
+    private static String toSegmentName(long base) {
+        return format("%020d%s", base, SEGMENT_SUFFIX);
+    }
+
+    private static String toFileName(String name) {
+
+        StringBuilder fileName = new StringBuilder();
+
+        for (byte b : name.getBytes(UTF_8)) {
+            if ((b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || (b >= '0' && b <= '9') || b == '.' || b == '-') {
+                fileName.append((char) b);
+            } else {
+                fileName.append(format("_%02x", b & 0xFF));
+            }
+        }
+
+        return fileName.toString();
+
+    }
+
+    @FunctionalInterface
+    interface RecordConsumer {
+        void accept(long position, byte[] record);
+    }
+
+}
+
+final class JournalSegment {
+
+    final long base;
+
+    private final File file;
+
+    private final MappedByteBuffer buffer;
+
+    private boolean dirty;
+
+    JournalSegment(File file, long base, int size) {
+
+        this.file = file;
+        this.base = base;
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw"); FileChannel channel = raf.getChannel()) {
+            this.buffer = channel.map(READ_WRITE, 0, size);
+        } catch (IOException cause) {
+            throw new JournalException(cause);
+        }
+
+    }
+
+    int recover() {
+
+        int offset = 0;
+
+        byte[] record;
+
+        while (offset + 8 <= buffer.capacity() && nonNull(record = read(offset))) {
+            offset += 8 + record.length;
+        }
+
+        return offset;
+
+    }
+
+    byte[] read(int offset) {
+
+        if (offset + 8 > buffer.capacity()) {
+            return (null);
+        }
+
+        int length = buffer.getInt(offset);
+
+        if (length <= 0 || offset + 8 + length > buffer.capacity()) {
+            return (null);
+        }
+
+        byte[] record = new byte[length];
+
+        ByteBuffer source = buffer.duplicate();
+
+        source.position(offset + 8);
+        source.get(record);
+
+        CRC32 crc = new CRC32();
+
+        crc.update(record, 0, length);
+
+        return ((int) crc.getValue() == buffer.getInt(offset + 4)) ? record : (null);
+
+    }
+
+    void write(int offset, byte[] record) {
+
+        CRC32 crc = new CRC32();
+
+        crc.update(record, 0, record.length);
+
+        ByteBuffer target = buffer.duplicate();
+
+        target.position(offset + 8);
+        target.put(record);
+
+        buffer.putInt(offset + 4, (int) crc.getValue());
+        buffer.putInt(offset, record.length);
+
+        dirty = true;
+
+    }
+
+    void force() {
+        if (dirty) {
+            dirty = false;
+            buffer.force();
+        }
+    }
+
+    void delete() {
+        file.delete();
+    }
+
+}
+
+final class JournalCursor {
+
+    private final MappedByteBuffer buffer;
+
+    private final boolean syncWrites;
+
+    private volatile long position;
+
+    private volatile boolean dirty;
+
+    private long[] expected = new long[16];
+
+    private int head;
+
+    private int size;
+
+    private final Set<Long> settled = new HashSet<>();
+
+    JournalCursor(File file, long firstPosition, long initialPosition, boolean syncWrites) {
+
+        boolean exists = file.exists();
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw"); FileChannel channel = raf.getChannel()) {
+            this.buffer = channel.map(READ_WRITE, 0, Long.BYTES);
+        } catch (IOException cause) {
+            throw new JournalException(cause);
+        }
+
+        this.syncWrites = syncWrites;
+        this.position   = exists ? Math.max(buffer.getLong(0), firstPosition) : initialPosition;
+
+        if (!exists) {
+            buffer.putLong(0, initialPosition);
+            buffer.force();
+        }
+
+    }
+
+    long getPosition() {
+        return position;
+    }
+
+    synchronized void expect(long position) {
+
+        if (size == expected.length) {
+
+            long[] grown = new long[size << 1];
+
+            for (int i = 0; i < size; i++) {
+                grown[i] = expected[(head + i) & (expected.length - 1)];
+            }
+
+            expected = grown;
+            head     = 0;
+        }
+
+        expected[(head + size++) & (expected.length - 1)] = position;
+
+    }
+
+    // the cursor only moves over a settled prefix, so a position settled ahead of its predecessors is kept aside
+    synchronized void ack(long position) {
+
+        if (position <= this.position) {
+            return;
+        }
+
+        if (size == 0 || expected[head] != position) {
+            settled.add(position);
+            return;
+        }
+
+        long acked = this.poll();
+
+        while (size > 0 && settled.remove(expected[head])) {
+            acked = this.poll();
+        }
+
+        this.position = acked;
+
+        buffer.putLong(0, acked);
+
+        if (syncWrites) {
+            buffer.force();
+        } else {
+            dirty = true;
+        }
+    }
+
+    void force() {
+        if (dirty) {
+            dirty = false;
+            buffer.force();
+        }
+    }
+
+    private long poll() {
+
+        long position = expected[head];
+
+        head = (head + 1) & (expected.length - 1);
+
+        size--;
+
+        return position;
+
+    }
+
+}
@@ -0,0 +1,150 @@
+package scg.fusion;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static scg.fusion.Utils.*;
+
+final class TypePatterns {
+
+    private static final Node root = new Node();
+
+    private static final Map<String, Integer> ids = new HashMap<>();
+
+    private static final List<Predicate<String>> typeNames = new ArrayList<>();
+
+    private static volatile ClassValue<BitSet> matches = newMatches();
+
+    private TypePatterns() {
+        throw new UnsupportedOperationException();
+    }
+
+    static synchronized int compile(String packageName, String typeName) {
+
+        String pattern = packageName + DOT_CHAR + typeName;
+
+        Integer id = ids.get(pattern);
+
+        if (nonNull(id)) {
+            return id;
+        }
+
+        id = typeNames.size();
+
+        typeNames.add(compileTypeName(typeName));
+
+        if (packageName.equals(ASTERISK)) {
+            root.subpackages.add(id);
+        } else {
+
+            boolean subpackages = packageName.endsWith(TWO_DOTS);
+
+            Node node = root;
+
+            for (String segment : (subpackages ? packageName.substring(0, packageName.length() - TWO_DOTS.length()) : packageName).split("\\.")) {
+                node = node.children.computeIfAbsent(segment, $ -> new Node());
+            }
+
+            (subpackages ? node.subpackages : node.types).add(id);
+        }
+
+        ids.put(pattern, id);
+
+        matches = newMatches();
+
+        return id;
+
+    }
+
+    static boolean match(int id, Class<?> type) {
+        return matches.get(type).get(id);
+    }
+
+    private static synchronized BitSet walk(Class<?> type) {
+
+        BitSet matched = new BitSet();
+
+        String typeName = type.getSimpleName();
+
+        String packageName = getPackageName(type);
+
+        Node node = root;
+
+        collect(node.subpackages, typeName, matched);
+
+        if (isNull(packageName) || packageName.isEmpty()) {
+            return matched;
+        }
+
+        for (String segment : packageName.split("\\.")) {
+
+            node = node.children.get(segment);
+
+            if (isNull(node)) {
+                return matched;
+            }
+
+            collect(node.subpackages, typeName, matched);
+        }
+
+        collect(node.types, typeName, matched);
+
+        return matched;
+
+    }
+
+    private static void collect(List<Integer> candidates, String typeName, BitSet matched) {
+        for (int id : candidates) {
+            if (typeNames.get(id).test(typeName)) {
+                matched.set(id);
+            }
+        }
+    }
+
+    private static Predicate<String> compileTypeName(String typeName) {
+
+        if (typeName.equals(ASTERISK)) {
+            return $ -> true;
+        }
+
+        if (typeName.indexOf(ASTERISK_CHAR) == -1) {
+            return typeName::equals;
+        }
+
+        String[] parts = typeName.split("\\*", -1);
+
+        StringBuilder regex = new StringBuilder(Pattern.quote(parts[0]));
+
+        for (int i = 1; i < parts.length; i++) {
+            regex.append(".*").append(Pattern.quote(parts[i]));
+        }
+
+        Pattern pattern = Pattern.compile(regex.toString());
+
+        return name -> pattern.matcher(name).matches();
+
+    }
+
+    private static ClassValue<BitSet> newMatches() {
+        return new ClassValue<BitSet>() {
+            @Override
+            protected BitSet computeValue(Class<?> type) {
+                return walk(type);
+            }
+        };
+    }
+
+    private static final class Node {
+
+        final Map<String, Node> children = new HashMap<>();
+
+        final List<Integer> types = new ArrayList<>();
+
+        final List<Integer> subpackages = new ArrayList<>();
+
+    }
+
+}
@@ -2,6 +2,7 @@ package scg.fusion;
 
 import org.objectweb.asm.MethodVisitor;
 import scg.fusion.annotation.*;
+import scg.fusion.aop.AsyncExecutionJoinPoint;
 import scg.fusion.aop.AutowireJoinPoint;
 import scg.fusion.aop.ExecutionJoinPoint;
 import scg.fusion.aop.JoinPoint;
@@ -18,6 +19,7 @@ import java.lang.reflect.*;
 import java.lang.reflect.Field;
 
 import java.util.*;
+import java.util.concurrent.CompletionStage;
 import java.util.function.*;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
@@ -36,6 +38,7 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.stream.Collectors.*;
 import static java.util.stream.Stream.*;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Type.*;
 import static scg.fusion.OnTheFlyFactory.newAspectSpecImpl;
@@ -65,9 +68,12 @@ public final class Utils {
     static final String LONG_VALUE    = "longValue";
     static final String INT           = "int";
     static final String INT_VALUE     = "intValue";
+    static final String VALUE_OF      = "valueOf";
 
-    static final char PLUS_CHAR  = '+';
-    static final char EMPTY_CHAR = '\u0000';
+    static final char PLUS_CHAR     = '+';
+    static final char DOT_CHAR      = '.';
+    static final char ASTERISK_CHAR = '*';
+    static final char EMPTY_CHAR    = '\u0000';
 
     static final String _GENERATED_                    = "<generated>";
     static final String ON                             = "on";
@@ -85,6 +91,33 @@ public final class Utils {
     static final String APP_DOT_PROPERTIES             = "fusion.properties";
     static final String TRACE_CLASS_VISITOR_CLASS_NAME = "org.objectweb.asm.util.TraceClassVisitor";
     static final String ON_THE_FLY_DUMP_CODE_LOCATION_PROPERTY_NAME = "fusion.onthefly.dump.location";
+    static final String SPECIALIZATION_THRESHOLD_PROPERTY_NAME      = "fusion.specialization.threshold";
+    static final String SPECIALIZATION_LIMIT_PROPERTY_NAME          = "fusion.specialization.limit";
+    static final String MESSAGING_DISPATCHER_PROPERTY_NAME             = "fusion.messaging.dispatcher";
+    static final String MESSAGING_DISPATCHER_TYPE_PROPERTY_NAME        = "fusion.messaging.dispatcher.%s.type";
+    static final String MESSAGING_DISPATCHER_PARALLELISM_PROPERTY_NAME = "fusion.messaging.dispatcher.%s.parallelism";
+    static final String MESSAGING_TOPIC_DISPATCHER_PROPERTY_NAME       = "fusion.messaging.topic.%s.dispatcher";
+    static final String MESSAGING_MAILBOX_CAPACITY_PROPERTY_NAME       = "fusion.messaging.mailbox.capacity";
+    static final String MESSAGING_MAILBOX_THROUGHPUT_PROPERTY_NAME     = "fusion.messaging.mailbox.throughput";
+    static final String MESSAGING_MAILBOX_OVERFLOW_PROPERTY_NAME       = "fusion.messaging.mailbox.overflow";
+    static final String MESSAGING_MAILBOX_OVERFLOW_TIMEOUT_PROPERTY_NAME = "fusion.messaging.mailbox.overflow.timeout";
+    static final String MESSAGING_COMPONENT_MAILBOX_CAPACITY_PROPERTY_NAME   = "fusion.messaging.component.%s.mailbox.capacity";
+    static final String MESSAGING_COMPONENT_MAILBOX_THROUGHPUT_PROPERTY_NAME = "fusion.messaging.component.%s.mailbox.throughput";
+    static final String MESSAGING_COMPONENT_MAILBOX_OVERFLOW_PROPERTY_NAME   = "fusion.messaging.component.%s.mailbox.overflow";
+    static final String MESSAGING_COMPONENT_MAILBOX_OVERFLOW_TIMEOUT_PROPERTY_NAME = "fusion.messaging.component.%s.mailbox.overflow.timeout";
+    static final String MESSAGING_TOPIC_OVERFLOW_PROPERTY_NAME         = "fusion.messaging.topic.%s.overflow";
+    static final String MESSAGING_TOPIC_OVERFLOW_TIMEOUT_PROPERTY_NAME = "fusion.messaging.topic.%s.overflow.timeout";
+    static final String MESSAGING_TIMER_TICK_PROPERTY_NAME             = "fusion.messaging.timer.tick";
+    static final String MESSAGING_TIMER_WHEEL_SIZE_PROPERTY_NAME       = "fusion.messaging.timer.wheel.size";
+    static final String MESSAGING_DLQ_CAPACITY_PROPERTY_NAME           = "fusion.messaging.dlq.capacity";
+    static final String MESSAGING_COMPONENT_DLQ_CAPACITY_PROPERTY_NAME = "fusion.messaging.component.%s.dlq.capacity";
+    static final String MESSAGING_COMPONENT_LANES_PROPERTY_NAME        = "fusion.messaging.component.%s.lanes";
+    static final String MESSAGING_COMPONENT_PARTITION_KEY_PROPERTY_NAME = "fusion.messaging.component.%s.partition.key";
+    static final String MESSAGING_TOPIC_DURABLE_PROPERTY_NAME          = "fusion.messaging.topic.%s.durable";
+    static final String MESSAGING_JOURNAL_DIRECTORY_PROPERTY_NAME      = "fusion.messaging.journal.directory";
+    static final String MESSAGING_JOURNAL_SEGMENT_SIZE_PROPERTY_NAME   = "fusion.messaging.journal.segment.size";
+    static final String MESSAGING_JOURNAL_FLUSH_INTERVAL_PROPERTY_NAME = "fusion.messaging.journal.flush.interval";
+    static final String MESSAGING_JOURNAL_CODEC_PROPERTY_NAME          = "fusion.messaging.journal.codec";
 
     static final String PROPERTIES                   = "properties";
     static final String INITIALIZE                   = "initialize";
@@ -92,6 +125,7 @@ public final class Utils {
     static final String RESOLVE                      = "resolve";
     static final String NEW                          = "new";
     static final String PROVIDER                     = "provider";
+    static final String ASPECT                       = "aspect";
     static final String COMPONENT                    = "component";
     static final String UTILIZE                      = "utilize";
     static final String GET                          = "get";
@@ -123,8 +157,14 @@ public final class Utils {
     static final String TO_INIT_METHOD               = "toInitMethod";
     static final String TO_NEW_METHOD                = "toNewMethod";
     static final String ADVICE                       = "advice";
+    static final String GET_ADVICE                   = "getAdvice";
+    static final String GET_ASPECT                   = "getAspect";
+    static final String JOINT                        = "joint";
+    static final String BINDING                      = "binding";
     static final String JOIN_POINTS                  = "joinPoints";
     static final String PROXY                        = "proxy";
+    static final String INVOKER                      = "invoker";
+    static final String AS_SUPER_INVOKER             = "asSuperInvoker";
     static final String METHOD                       = "method";
     static final String CONSTRUCTOR                  = "constructor";
     static final String INTERCEPT                    = "intercept";
@@ -135,6 +175,21 @@ public final class Utils {
     static final String VOID                         = "void";
     static final String VALUE                        = "value";
     static final String PARAMETER_TYPES              = "parameterTypes";
+    static final String TYPES                        = "types";
+    static final String IS_EXECUTION                 = "isExecution";
+    static final String IS_DYNAMIC                   = "isDynamic";
+    static final String RESIDUE                      = "residue";
+    static final String IS_INSTANCE                  = "isInstance";
+    static final String GET_NAME                     = "getName";
+    static final String GET_RETURN_TYPE              = "getReturnType";
+    static final String GET_PARAMETER_COUNT          = "getParameterCount";
+    static final String GET_PARAMETER_TYPES          = "getParameterTypes";
+    static final String GET_CANONICAL_NAME           = "getCanonicalName";
+    static final String MATCH_TYPE                   = "matchType";
+    static final String EQUALS                       = "equals";
+    static final String ASTERISK                     = "*";
+    static final String TWO_DOTS                     = "..";
+    static final String ARRAY_SUFFIX                 = "[]";
     static final String EXCEPTION_TYPES              = "exceptionTypes";
     static final String MODIFIERS                    = "modifiers";
     static final String SLOT                         = "slot";
@@ -143,6 +198,7 @@ public final class Utils {
     static final String PARAMETER_ANNOTATIONS        = "parameterAnnotations";
     static final String EMPTY_CLASS_ARRAY            = "emptyClassArray";
     static final String GET_PRIVILEGE_LEVEL          = "getPrivilegeLevel";
+    static final String PRIVILEGE_LEVEL              = "privilegeLevel";
     static final String GET_PRIMITIVE_CLASS          = "getPrimitiveClass";
     static final String GET_METHOD_DESCRIPTOR_STRING = "getMethodDescriptorString";
 
@@ -236,7 +292,63 @@ public final class Utils {
     }
 
     static boolean isExecutionCrosscutAdvice(Method advice) {
-        return advice.getParameterTypes()[0] == ExecutionJoinPoint.class;
+        return advice.getParameterTypes()[0] == ExecutionJoinPoint.class || isAsyncExecutionCrosscutAdvice(advice);
+    }
+
+    static boolean isAsyncExecutionCrosscutAdvice(Method advice) {
+        return advice.getParameterTypes()[0] == AsyncExecutionJoinPoint.class;
+    }
+
+    static Object[] bindAdviceParameters(Method advice, Method method) {
+
+        Class<?>[] parameterTypes = advice.getParameterTypes();
+
+        if (parameterTypes.length == 1) {
+            return emptyObjectArray;
+        }
+
+        Object[] bindings = new Object[parameterTypes.length - 1];
+
+        for (int i = 1; i < parameterTypes.length; i++) {
+            bindings[i - 1] = bindAdviceParameter(advice, parameterTypes[i], method);
+        }
+
+        return bindings;
+
+    }
+
+    private static Object bindAdviceParameter(Method advice, Class<?> parameterType, Method method) {
+
+        if (parameterType == Method.class) {
+            return method;
+        }
+
+        if (parameterType == MethodJoint.class) {
+            return MethodJoint.of(method);
+        }
+
+        if (parameterType == Class.class) {
+            return method.getDeclaringClass();
+        }
+
+        if (parameterType.isAnnotation()) {
+
+            Annotation annotation = method.getAnnotation(parameterType.asSubclass(Annotation.class));
+
+            return nonNull(annotation) ? annotation : method.getDeclaringClass().getAnnotation(parameterType.asSubclass(Annotation.class));
+        }
+
+        try {
+            // per join point state
+            return parameterType.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException cause) {
+            throw new IllegalContractException("advice [%s] parameter of type [%s] cannot be bound to [%s]", advice, parameterType, method);
+        }
+
+    }
+
+    static boolean isAsyncExecution(Method method) {
+        return CompletionStage.class.isAssignableFrom(method.getReturnType());
     }
 
     static boolean isAspectSpecImpl(Class<?> componentType) {
@@ -443,6 +555,10 @@ public final class Utils {
 
         Type param = (method.getGenericParameterTypes())[0];
 
+        if (isBatchMessageListener(method)) {
+            param = (((ParameterizedType) param).getActualTypeArguments())[0];
+        }
+
         if (param instanceof ParameterizedType) {
 
             Type actualTypeParam = (((ParameterizedType) param).getActualTypeArguments())[0];
@@ -458,6 +574,18 @@ public final class Utils {
 
     }
 
+    static boolean isBatchMessageListener(Method method) {
+        return method.getParameterTypes()[0] == List.class;
+    }
+
+    static String getMessageDispatcher(Method method) {
+        if (method.isAnnotationPresent(MessageTopics.class)) {
+            return method.getAnnotation(MessageTopics.class).dispatcher();
+        } else {
+            return EMPTY_STRING;
+        }
+    }
+
     static Iterable<String> listMessageTopics(Method method) {
         if (method.isAnnotationPresent(MessageTopics.class)) {
             return of(method.getAnnotation(MessageTopics.class).value()).collect(toSet());
@@ -623,6 +751,117 @@ public final class Utils {
 
     }
 
+    static Class<?> resolveTypeName(String typeName) {
+
+        String name = typeName.replace(String.valueOf(PLUS_CHAR), "");
+
+        if (name.equals(ASTERISK) || name.equals(TWO_DOTS)) {
+            return (null);
+        }
+
+        if (name.endsWith(ARRAY_SUFFIX)) {
+
+            Class<?> componentType = resolveTypeName(name.substring(0, name.length() - ARRAY_SUFFIX.length()));
+
+            return isNull(componentType) ? (null) : Array.newInstance(componentType, 0).getClass();
+        }
+
+        switch (name) {
+            case VOID:
+                return void.class;
+            case BOOLEAN:
+                return boolean.class;
+            case SHORT:
+                return short.class;
+            case BYTE:
+                return byte.class;
+            case CHAR:
+                return char.class;
+            case INT:
+                return int.class;
+            case DOUBLE:
+                return double.class;
+            case FLOAT:
+                return float.class;
+            case LONG:
+                return long.class;
+            default:
+                break;
+        }
+
+        ClassLoader classLoader = (Thread.currentThread()).getContextClassLoader();
+
+        if (isNull(classLoader)) {
+            classLoader = Utils.class.getClassLoader();
+        }
+
+        for (String binaryName = name; ; ) {
+            try {
+                return Class.forName(binaryName, false, classLoader);
+            } catch (ClassNotFoundException | LinkageError $) {
+
+                int lastDot = binaryName.lastIndexOf('.');
+
+                if (lastDot == -1) {
+                    return (null);
+                }
+
+                binaryName = binaryName.substring(0, lastDot) + '$' + binaryName.substring(lastDot + 1);
+            }
+        }
+    }
+
+    public static boolean matchType(Class<?> actualType, Class<?> expectedType, boolean covariant) {
+
+        if (covariant ? expectedType.isAssignableFrom(actualType) : actualType == expectedType) {
+            return true;
+        }
+
+        // expected type was resolved through another class loader than the one of the component
+        return covariant ? isSubtypeOf(actualType, expectedType.getName()) : actualType.getName().equals(expectedType.getName());
+
+    }
+
+    private static boolean isSubtypeOf(Class<?> type, String supertypeName) {
+
+        if (isNull(type)) {
+            return false;
+        }
+
+        if (type.getName().equals(supertypeName) || isSubtypeOf(type.getSuperclass(), supertypeName)) {
+            return true;
+        }
+
+        for (Class<?> api : type.getInterfaces()) {
+            if (isSubtypeOf(api, supertypeName)) {
+                return true;
+            }
+        }
+
+        return false;
+
+    }
+
+    static Class<? extends Annotation> resolveAnnotationType(String packageName, String annotationName) {
+
+        if (packageName.equals(ASTERISK) || packageName.endsWith(TWO_DOTS) || annotationName.indexOf(ASTERISK_CHAR) != -1) {
+            return (null);
+        }
+
+        Class<?> annotationType = resolveTypeName(packageName + '.' + annotationName);
+
+        if (isNull(annotationType) || !annotationType.isAnnotation()) {
+            return (null);
+        }
+
+        if (!packageName.equals(getPackageName(annotationType)) || !annotationName.equals(annotationType.getSimpleName())) {
+            return (null);
+        }
+
+        return annotationType.asSubclass(Annotation.class);
+
+    }
+
     static String getPointcutExpression(Method advice) {
         return advice.getAnnotation(Around.class).value();
     }
@@ -632,7 +871,7 @@ public final class Utils {
             if (primitiveType.isPrimitive()) {
                 switch (primitiveType.getName()) {
                     case BOOLEAN:
-                        visitor.visitMethodInsn(INVOKEVIRTUAL, getInternalName(Number.class), BOOLEAN_VALUE, getMethodDescriptor(BOOLEAN_TYPE), false);
+                        visitor.visitMethodInsn(INVOKEVIRTUAL, getInternalName(Boolean.class), BOOLEAN_VALUE, getMethodDescriptor(BOOLEAN_TYPE), false);
                         break;
                     case SHORT:
                         visitor.visitMethodInsn(INVOKEVIRTUAL, getInternalName(Number.class), SHORT_VALUE, getMethodDescriptor(SHORT_TYPE), false);
@@ -664,10 +903,19 @@ public final class Utils {
 
     static Consumer<MethodVisitor> boxing(Class<?> primitiveType) {
         return visitor -> {
-            // TODO
+            if (primitiveType.isPrimitive() && primitiveType != void.class) {
+
+                Class<?> boxedType = getBoxedType(primitiveType);
+
+                visitor.visitMethodInsn(INVOKESTATIC, getInternalName(boxedType), VALUE_OF, getMethodDescriptor(getType(boxedType), getType(primitiveType)), false);
+            }
         };
     }
 
+    static Class<?> getBoxedType(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
     static Class<?> getMagicAccessorImplClass() {
         try {
             return Class.forName("sun.reflect.MagicAccessorImpl");
@@ -690,28 +938,32 @@ public final class Utils {
         };
     }
 
-    static BiFunction<Method, Set<ExecutionAdvisor>, Set<ExecutionAdvisor>> append(ExecutionAdvisor advisor) {
+    static BiFunction<Method, List<ExecutionAdvisor>, List<ExecutionAdvisor>> append(ExecutionAdvisor advisor) {
         return ($, advisement) -> {
 
             if (isNull(advisement)) {
-                advisement = new TreeSet<>(comparingInt(ExecutionAdvisor::getPrivilegeLevel));
+                advisement = new ArrayList<>();
             }
 
-            advisement.add(advisor);
+            if (!advisement.contains(advisor)) {
+                advisement.add(advisor);
+            }
 
             return advisement;
 
         };
     }
 
-    static BiFunction<Field, Set<AutowireAdvisor>, Set<AutowireAdvisor>> append(AutowireAdvisor advisor) {
+    static BiFunction<Field, List<AutowireAdvisor>, List<AutowireAdvisor>> append(AutowireAdvisor advisor) {
         return ($, advisement) -> {
 
             if (isNull(advisement)) {
-                advisement = new TreeSet<>(comparingInt(AutowireAdvisor::getPrivilegeLevel));
+                advisement = new ArrayList<>();
             }
 
-            advisement.add(advisor);
+            if (!advisement.contains(advisor)) {
+                advisement.add(advisor);
+            }
 
             return advisement;
 
@@ -817,12 +1069,46 @@ public final class Utils {
 
     public static Iterable<Method> filterMethods(Iterable<Class<?>> componentTypes, Pointcut crosscut) {
         return StreamSupport.stream(componentTypes.spliterator(), false)
-                .flatMap(componentType -> stream(componentType.getDeclaredMethods()))
+                .flatMap(Utils::streamExecutableMethods)
+                .distinct()
                 .filter(method -> isJoinPoint(method))
                 .filter(crosscut::match)
                 .collect(toList());
     }
 
+    // declared and inherited methods a component instance executes, an overridden method shows up once as its override
+    static Stream<Method> streamExecutableMethods(Class<?> componentType) {
+
+        Map<String, Method> methods = new LinkedHashMap<>();
+
+        for (Class<?> type = componentType; nonNull(type) && type != Object.class; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+
+                // a covariant override's bridge has the same key and would shadow the override itself
+                if (method.isBridge() || method.isSynthetic()) {
+                    continue;
+                }
+
+                methods.putIfAbsent(method.getName() + Arrays.toString(method.getParameterTypes()), method);
+            }
+        }
+
+        return methods.values().stream();
+
+    }
+
+    static int countSuperclasses(Class<?> componentType) {
+
+        int count = 0;
+
+        for (Class<?> type = componentType.getSuperclass(); nonNull(type); type = type.getSuperclass()) {
+            count++;
+        }
+
+        return count;
+
+    }
+
     public static Iterable<Field> filterFields(Iterable<Class<?>> componentTypes, Pointcut crosscut) {
         return StreamSupport.stream(componentTypes.spliterator(), false)
                 .flatMap(componentType -> stream(componentType.getDeclaredFields()))
@@ -10,12 +10,15 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.lang.reflect.Field;
 import java.util.HashSet;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.lang.reflect.Modifier.*;
 import static java.util.stream.Collectors.toSet;
 import static java.util.stream.Stream.of;
+import static scg.fusion.Utils.isExecutionCrosscutAdvice;
+import static scg.fusion.annotation.MessageListener.DEFAULT_MAX_BATCH_SIZE;
 
 final class Verification {
 
@@ -357,15 +360,25 @@ final class Verification {
 
         int parameterCount = advice.getParameterCount();
 
-        if (parameterCount != 1) {
-            throw new IllegalContractException("advice [%s] has illegal parameters count (must have exactly one)", advice);
+        if (parameterCount == 0) {
+            throw new IllegalContractException("advice [%s] has illegal parameters count (must have at least one)", advice);
         }
 
-        Class<?> parameterType = advice.getParameterTypes()[0];
+        Class<?>[] parameterTypes = advice.getParameterTypes();
 
-        if (!JoinPoint.class.isAssignableFrom(parameterType)) {
+        if (!JoinPoint.class.isAssignableFrom(parameterTypes[0])) {
             throw new IllegalContractException("advice [%s] has illegal parameter type (must have subtype of the scg.fusion.aop.JoinPoint)", advice);
         }
+
+        if (parameterCount > 1 && !isExecutionCrosscutAdvice(advice)) {
+            throw new IllegalContractException("advice [%s] has illegal parameters count (only execution advice can bind extra parameters)", advice);
+        }
+
+        for (int i = 1; i < parameterCount; i++) {
+            if (parameterTypes[i].isPrimitive() || parameterTypes[i].isArray()) {
+                throw new IllegalContractException("advice [%s] has illegal bound parameter type [%s]", advice, parameterTypes[i]);
+            }
+        }
     }
 
     static void verifyMessageListener(Method listener) {
@@ -390,10 +403,40 @@ final class Verification {
 
         Class<?> parameterType = listener.getParameterTypes()[0];
 
-        if (parameterType != Message.class) {
-            throw new IllegalContractException("@MessageListener [%s] has illegal parameter type (must have exactly type of scg.fusion.messaging.Message)", listener);
+        MessageListener annotation = listener.getAnnotation(MessageListener.class);
+
+        if (parameterType == List.class) {
+
+            Type batchType = listener.getGenericParameterTypes()[0];
+
+            if (!(batchType instanceof ParameterizedType) || getRawType(((ParameterizedType) batchType).getActualTypeArguments()[0]) != Message.class) {
+                throw new IllegalContractException("batch @MessageListener [%s] has illegal parameter type (must have exactly type of java.util.List<scg.fusion.messaging.Message<T>>)", listener);
+            }
+
+            if (annotation.maxBatchSize() <= 1 || annotation.maxLinger() < 0L) {
+                throw new IllegalContractException("batch @MessageListener [%s] has illegal batch policy (maxBatchSize > 1, maxLinger >= 0 expected)", listener);
+            }
+
+            if (annotation.attempts() != 1) {
+                throw new IllegalContractException("batch @MessageListener [%s] does not support redelivery", listener);
+            }
+
+        } else if (parameterType != Message.class) {
+            throw new IllegalContractException("@MessageListener [%s] has illegal parameter type (must have exactly type of scg.fusion.messaging.Message or java.util.List<scg.fusion.messaging.Message<T>>)", listener);
+        } else if (annotation.maxBatchSize() != DEFAULT_MAX_BATCH_SIZE || annotation.maxLinger() != 0L) {
+            throw new IllegalContractException("@MessageListener [%s] declares batch policy but does not accept java.util.List<scg.fusion.messaging.Message<T>>", listener);
+        }
+
+    }
+
+    private static Class<?> getRawType(Type type) {
+
+        if (type instanceof ParameterizedType) {
+            return getRawType(((ParameterizedType) type).getRawType());
         }
 
+        return (type instanceof Class) ? (Class<?>) type : (null);
+
     }
 
     static void verifyDlqListener(Method listener) {
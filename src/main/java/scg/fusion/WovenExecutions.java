@@ -0,0 +1,162 @@
+package scg.fusion;
+
+import scg.fusion.cglib.proxy.SuperInvoker;
+
+import java.lang.reflect.Method;
+import java.util.function.IntFunction;
+
+import static java.util.Arrays.copyOf;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static scg.fusion.OnTheFlyFactory.newSuperInvoker;
+
+public final class WovenExecutions {
+
+    static final int NONE = -1;
+
+    private static final ThreadLocal<int[]> proceeding = ThreadLocal.withInitial(() -> new int[]{NONE});
+
+    private static volatile Execution[] executions = new Execution[0];
+
+    private WovenExecutions() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static boolean isAdvised(int id) {
+
+        int[] proceed = proceeding.get();
+
+        if (proceed[0] == id) {
+            proceed[0] = NONE;
+            return false;
+        }
+
+        Execution execution = executions[id];
+
+        return nonNull(execution) && execution.chain.isActive();
+
+    }
+
+    public static boolean isAdvised(int[] ids, int slot) {
+
+        if (isNull(ids) || ids[slot] == NONE) {
+            return false;
+        }
+
+        // pre-woven executions proceed into their original method, no flag to consume
+        Execution execution = executions[ids[slot]];
+
+        return nonNull(execution) && execution.chain.isActive();
+
+    }
+
+    public static Object advise(int id, Class<?> callSide, Object component, Object[] args) throws Throwable {
+
+        Execution execution = executions[id];
+
+        return execution.chain.intercept(callSide, component, execution.method, args, execution.proxy);
+
+    }
+
+    public static Object advise(int[] ids, int slot, Class<?> callSide, Object component, Object[] args) throws Throwable {
+        return advise(ids[slot], callSide, component, args);
+    }
+
+    static int register(ExecutionChain chain) {
+
+        Method method = chain.getMethod();
+
+        // non virtual, an override of the woven method never runs in place of its body
+        SuperInvoker invoker = newSuperInvoker(method.getDeclaringClass(), method, method.getName(), true);
+
+        return register(chain, method.getName(), id -> new ProceedingInvoker(id, invoker));
+
+    }
+
+    static int register(ExecutionChain chain, String originalName) {
+
+        Method method = chain.getMethod();
+
+        SuperInvoker invoker = newSuperInvoker(method.getDeclaringClass(), method, originalName, true);
+
+        return register(chain, originalName, id -> invoker);
+
+    }
+
+    private static synchronized int register(ExecutionChain chain, String superName, IntFunction<SuperInvoker> invoker) {
+
+        Method method = chain.getMethod();
+
+        method.setAccessible(true);
+
+        int id = executions.length;
+
+        Execution[] registered = copyOf(executions, id + 1);
+
+        registered[id] = new Execution(chain, method, new WovenMethodProxy(method, superName, invoker.apply(id)));
+
+        executions = registered;
+
+        return id;
+
+    }
+
+    static synchronized void unregister(int id) {
+
+        Execution[] registered = copyOf(executions, executions.length);
+
+        // ids stay reserved, woven bytecode keeps referring to them
+        registered[id] = (null);
+
+        executions = registered;
+
+    }
+
+    static Method getMethod(int id) {
+        return executions[id].method;
+    }
+
+    static boolean isWithinGuarded(int id) {
+        return executions[id].chain.isWithinGuarded();
+    }
+
+    // a public named class rather than a lambda, specialized join points cast to the exact invoker type
+    public static final class ProceedingInvoker implements SuperInvoker {
+
+        private final int id;
+        private final SuperInvoker invoker;
+
+        private ProceedingInvoker(int id, SuperInvoker invoker) {
+            this.id = id;
+            this.invoker = invoker;
+        }
+
+        @Override
+        public Object invoke(Object component, Object[] args) throws Throwable {
+
+            int[] proceed = proceeding.get();
+
+            proceed[0] = id;
+
+            try {
+                return invoker.invoke(component, args);
+            } finally {
+                proceed[0] = NONE;
+            }
+        }
+    }
+
+    private static final class Execution {
+
+        final ExecutionChain chain;
+        final Method method;
+        final WovenMethodProxy proxy;
+
+        Execution(ExecutionChain chain, Method method, WovenMethodProxy proxy) {
+            this.chain = chain;
+            this.method = method;
+            this.proxy = proxy;
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package scg.fusion;
+
+import scg.fusion.cglib.core.Signature;
+import scg.fusion.cglib.proxy.MethodProxy;
+import scg.fusion.cglib.proxy.SuperInvoker;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import static org.objectweb.asm.Type.getMethodDescriptor;
+
+final class WovenMethodProxy extends MethodProxy {
+
+    private final Method method;
+    private final String superName;
+
+    WovenMethodProxy(Method method, String superName, SuperInvoker invoker) {
+        this.method = method;
+        this.superName = superName;
+        this.setSuperInvoker(invoker);
+    }
+
+    @Override
+    public Signature getSignature() {
+        return new Signature(method.getName(), getMethodDescriptor(method));
+    }
+
+    @Override
+    public String getSuperName() {
+        return superName;
+    }
+
+    /**
+     * Woven executions have no <code>FastClass</code>, {@link #invokeSuper} always goes through the installed invoker.
+     * @return -1, as for a signature missing from a <code>FastClass</code>
+     */
+    @Override
+    public int getSuperIndex() {
+        return -1;
+    }
+
+    @Override
+    public Object invoke(Object component, Object[] args) throws Throwable {
+        try {
+            return method.invoke(component, args);
+        } catch (InvocationTargetException cause) {
+            throw cause.getTargetException();
+        }
+    }
+
+}
@@ -7,4 +7,24 @@ import java.lang.annotation.Target;
 
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
-public @interface MessageListener {}
+public @interface MessageListener {
+
+    int DEFAULT_MAX_BATCH_SIZE = 64;
+
+    int attempts() default 1;
+
+    long backoff() default 100L; // millis
+
+    double multiplier() default 2.0;
+
+    long maxBackoff() default 60_000L; // millis
+
+    Class<? extends Throwable>[] retryOn() default {};
+
+    Class<? extends Throwable>[] noRetryOn() default {};
+
+    int maxBatchSize() default DEFAULT_MAX_BATCH_SIZE; // batch listeners only
+
+    long maxLinger() default 0L; // millis
+
+}
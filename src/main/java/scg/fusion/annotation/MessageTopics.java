@@ -13,4 +13,6 @@ public @interface MessageTopics {
 
     String[] value();
 
+    String dispatcher() default "";
+
 }
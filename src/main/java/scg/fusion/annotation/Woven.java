@@ -0,0 +1,16 @@
+package scg.fusion.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Woven {
+
+    String[] value();
+
+    String[] callerSensitive() default {};
+
+}
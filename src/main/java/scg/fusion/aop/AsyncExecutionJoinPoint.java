@@ -0,0 +1,36 @@
+package scg.fusion.aop;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+public interface AsyncExecutionJoinPoint extends ExecutionJoinPoint {
+
+    default <R> CompletableFuture<R> proceedAsync() {
+        return proceedAsync(new Object[0]);
+    }
+
+    default <R> CompletableFuture<R> proceedAsync(Object...args) {
+
+        Object result;
+
+        try {
+            result = proceed(args);
+        } catch (Throwable cause) {
+
+            CompletableFuture<R> failure = new CompletableFuture<>();
+
+            failure.completeExceptionally(cause);
+
+            return failure;
+
+        }
+
+        if (result instanceof CompletionStage) {
+            return ((CompletionStage<R>) result).toCompletableFuture();
+        }
+
+        return CompletableFuture.completedFuture((R) result);
+
+    }
+
+}
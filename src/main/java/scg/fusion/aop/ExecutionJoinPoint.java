@@ -27,4 +27,25 @@ public interface ExecutionJoinPoint extends JoinPoint {
 
     }
 
+    default int getArgCount() {
+        return getArgs().length;
+    }
+
+    // unboxing shortcuts, arguments still arrive boxed in getArgs() as the interceptor contract requires
+    default int getIntArg(int index) {
+        return (Integer) getArgs()[index];
+    }
+
+    default long getLongArg(int index) {
+        return (Long) getArgs()[index];
+    }
+
+    default double getDoubleArg(int index) {
+        return (Double) getArgs()[index];
+    }
+
+    default boolean getBooleanArg(int index) {
+        return (Boolean) getArgs()[index];
+    }
+
 }
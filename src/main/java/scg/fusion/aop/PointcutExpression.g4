@@ -25,7 +25,7 @@ annotatedMethodExecution: AT_SIGN execution LPAREN typeExpression RPAREN;
 
 negateAnnotatedMethodExecution: NEGATION AT_SIGN execution LPAREN typeExpression RPAREN;
 
-executionGuards: ((AND | OR) (withinGuardExpression | targetGuardExpression));
+executionGuards: ((AND | OR) (withinGuardExpression | targetGuardExpression | argsGuardExpression | thisGuardExpression));
 
 injectGuards: (AND | OR) targetGuardExpression;
 
@@ -49,11 +49,27 @@ annotatedWithinGuard: AT_SIGN within LPAREN typeExpression RPAREN;
 
 negateAnnotatedWithinGuard: NEGATION AT_SIGN within LPAREN typeExpression RPAREN;
 
-typeExpression: packageName DOT typeName;
+argsGuardExpression: argsGuard | negateArgsGuard;
+
+argsGuard: args LPAREN argsTypeList? RPAREN;
+
+negateArgsGuard: NEGATION args LPAREN argsTypeList? RPAREN;
+
+argsTypeList: argsType (COMMA argsType)*;
+
+argsType: parameterType | DOT DOT;
+
+thisGuardExpression: thisGuard | negateThisGuard;
+
+thisGuard: this LPAREN (referenceType | arrayType) RPAREN;
+
+negateThisGuard: NEGATION this LPAREN (referenceType | arrayType) RPAREN;
+
+typeExpression: packageName DOT DOT? typeName;
 
 packageName: referenceType | ASTERISK;
 
-typeName: Identifier | ASTERISK;
+typeName: (Identifier | ASTERISK)+;
 
 methodExpression: returnType methodName LPAREN parameterTypeList? RPAREN;
 
@@ -85,6 +101,10 @@ autowire: 'autowire';
 
 target: 'target';
 
+args: 'args';
+
+this: 'this';
+
 referenceType: (Identifier DOT)* Identifier;
 
 Identifier: JavaLetter JavaLetterOrDigit*;
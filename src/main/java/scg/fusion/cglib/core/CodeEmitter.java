@@ -704,18 +704,8 @@ public class CodeEmitter extends LocalVariablesSorter {
                 aconst_null();
             } else {
                 Type boxed = TypeUtils.getBoxedType(type);
-                new_instance(boxed);
-                if (type.getSize() == 2) {
-                    // Pp -> Ppo -> oPpo -> ooPpo -> ooPp -> o
-                    dup_x2();
-                    dup_x2();
-                    pop();
-                } else {
-                    // p -> po -> opo -> oop -> o
-                    dup_x1();
-                    swap();
-                }
-                invoke_constructor(boxed, new Signature(Constants.CONSTRUCTOR_NAME, Type.VOID_TYPE, new Type[]{ type }));
+                // valueOf, like javac autoboxing: the JIT knows it as a box and eliminates it along with the args array
+                invoke_static(boxed, new Signature("valueOf", boxed, new Type[]{ type }));
             }
         }
     }
@@ -43,6 +43,7 @@ class CallbackInfo
     private Type type;
 
     private static final CallbackInfo[] CALLBACKS = {
+            new CallbackInfo(NoOp.class, NoOpGenerator.INSTANCE),
             new CallbackInfo(ExecutionInterceptor.class, ExecutionInterceptorGenerator.INSTANCE),
     };
 
@@ -18,4 +18,14 @@ public interface ExecutionInterceptor extends Callback {
      * @see MethodProxy
      */
     Object intercept(Class<?> callSide, Object enhancer, Method method, Object[] args, MethodProxy proxy) throws Throwable;
+
+    /**
+     * Generated proxied methods call <code>intercept</code> on the interceptor returned by
+     * this method. Each proxied method has its own call site, so an interceptor that merely
+     * delegates can return its current delegate and keep that call site monomorphic.
+     * @return the interceptor to call for the next invocation
+     */
+    default ExecutionInterceptor getEntryPoint() {
+        return this;
+    }
 }
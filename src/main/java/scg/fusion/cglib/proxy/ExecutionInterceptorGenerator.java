@@ -49,6 +49,8 @@ class ExecutionInterceptorGenerator implements CallbackGenerator {
                     Constants.TYPE_OBJECT_ARRAY,
                     METHOD_PROXY
             });
+    private static final Signature GET_ENTRY_POINT =
+            new Signature("getEntryPoint", EXECUTION_INTERCEPTOR, new Type[0]);
     private static final Signature FIND_PROXY =
             new Signature(FIND_PROXY_NAME, METHOD_PROXY, new Type[]{ Constants.TYPE_SIGNATURE });
     private static final Signature TO_STRING =
@@ -100,6 +102,7 @@ class ExecutionInterceptorGenerator implements CallbackGenerator {
             context.emitCallback(e, context.getIndex(method));
             e.dup();
             e.ifnull(nullInterceptor);
+            e.invoke_interface(EXECUTION_INTERCEPTOR, GET_ENTRY_POINT);
 
             callSide(e); // TODO: optimize for 'within' guard usage (apply if necessary)
 
@@ -13,6 +13,8 @@ public class MethodProxy {
 
     private final Object initLock = new Object();
     private volatile FastClassInfo fastClassInfo;
+    private volatile SuperInvoker superInvoker;
+    private final SuperInvoker invokeSuper = this::invokeSuper;
 
     public static MethodProxy create(Class c1, Class c2, String desc, String name1, String name2) {
         MethodProxy proxy = new MethodProxy();
@@ -108,6 +110,33 @@ public class MethodProxy {
         return sig2.getName();
     }
 
+    /**
+     * Install a direct invoker of the super implementation. Once set,
+     * {@link #invokeSuper} calls it instead of lazily generating the
+     * <code>FastClass</code> pair; the <code>FastClass</code> path remains
+     * the fallback for proxies without an invoker.
+     * @param superInvoker invoker calling the method returned by {@link #getSuperName}
+     */
+    public void setSuperInvoker(SuperInvoker superInvoker) {
+        this.superInvoker = superInvoker;
+    }
+
+    /**
+     * Return the direct invoker installed by {@link #setSuperInvoker}.
+     * @return the installed invoker, or null if <code>invokeSuper</code> uses the <code>FastClass</code> path
+     */
+    public SuperInvoker getSuperInvoker() {
+        return superInvoker;
+    }
+
+    /**
+     * Return this proxy as an invoker whose <code>invoke</code> delegates to {@link #invokeSuper}.
+     * The same instance is returned on every call.
+     */
+    public SuperInvoker asSuperInvoker() {
+        return invokeSuper;
+    }
+
     public int getSuperIndex() {
         init();
         return fastClassInfo.i2;
@@ -180,6 +209,10 @@ public class MethodProxy {
      * without wrapping in an <code>InvocationTargetException</code>
      */
     public Object invokeSuper(Object obj, Object[] args) throws Throwable {
+        SuperInvoker invoker = superInvoker;
+        if (invoker != null) {
+            return invoker.invoke(obj, args);
+        }
         try {
             init();
             FastClassInfo fci = fastClassInfo;
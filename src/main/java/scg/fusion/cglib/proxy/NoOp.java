@@ -0,0 +1,13 @@
+package scg.fusion.cglib.proxy;
+
+/**
+ * Methods using this {@link Enhancer} callback will delegate directly to the
+ * default (super) implementation in the base class.
+ */
+public interface NoOp extends Callback
+{
+    /**
+     * A thread-safe singleton instance of the <code>NoOp</code> callback.
+     */
+    NoOp INSTANCE = new NoOp() { };
+}
@@ -0,0 +1,14 @@
+package scg.fusion.cglib.proxy;
+
+public interface SuperInvoker {
+    /**
+     * Invoke the original (super) method implementation directly, bypassing
+     * the <code>FastClass</code> index dispatch.
+     * @param obj the enhanced object
+     * @param args argument array; primitive types are wrapped
+     * @throws Throwable the bare exceptions thrown by the called method
+     * @return the boxed return value, or null for void methods
+     * @see MethodProxy#setSuperInvoker
+     */
+    Object invoke(Object obj, Object[] args) throws Throwable;
+}
@@ -0,0 +1,15 @@
+package scg.fusion.exceptions;
+
+import static java.lang.String.format;
+
+public final class JournalException extends FusionRuntimeException {
+
+    public JournalException(Throwable cause) {
+        super(cause);
+    }
+
+    public JournalException(String message, Object...args) {
+        super(format(message, args));
+    }
+
+}
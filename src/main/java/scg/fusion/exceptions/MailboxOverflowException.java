@@ -0,0 +1,9 @@
+package scg.fusion.exceptions;
+
+import static java.lang.String.format;
+
+public final class MailboxOverflowException extends FusionRuntimeException {
+    public MailboxOverflowException(String message, Object...args) {
+        super(format(message, args));
+    }
+}
@@ -0,0 +1,9 @@
+package scg.fusion.exceptions;
+
+import static java.lang.String.format;
+
+public final class UnroutableMessageException extends FusionRuntimeException {
+    public UnroutableMessageException(String message, Object...args) {
+        super(format(message, args));
+    }
+}
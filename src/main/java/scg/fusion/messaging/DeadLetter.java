@@ -4,5 +4,6 @@ public interface DeadLetter {
 
     Message<?> getMessage();
     Throwable    getCause();
+    int       getAttempts();
 
 }
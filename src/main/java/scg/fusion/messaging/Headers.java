@@ -1,5 +1,11 @@
 package scg.fusion.messaging;
 
 public interface Headers {
+
+    String CORRELATION_ID = "fusion-correlation-id";
+
+    String PARTITION_KEY = "fusion-partition-key";
+
     String getValue(String key);
+
 }
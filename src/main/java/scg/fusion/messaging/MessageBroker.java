@@ -1,5 +1,16 @@
 package scg.fusion.messaging;
 
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
 public interface MessageBroker {
+
    MessagePublisher forall(String...topics);
+
+   <T> CompletionStage<T> request(String topic, Object payload, long timeout, TimeUnit unit);
+
+   default PreparedPublisher prepare(String...topics) {
+      return forall(topics)::publish;
+   }
+
 }
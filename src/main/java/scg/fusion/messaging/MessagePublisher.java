@@ -1,5 +1,24 @@
 package scg.fusion.messaging;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 public interface MessagePublisher {
+
     boolean publish(Object payload);
+
+    default CompletionStage<Boolean> publishAsync(Object payload) {
+
+        CompletableFuture<Boolean> completion = new CompletableFuture<>();
+
+        try {
+            completion.complete(publish(payload));
+        } catch (RuntimeException cause) {
+            completion.completeExceptionally(cause);
+        }
+
+        return completion;
+
+    }
+
 }
@@ -0,0 +1,5 @@
+package scg.fusion.messaging;
+
+public interface Partitioned {
+    Object getPartitionKey();
+}
@@ -0,0 +1,9 @@
+package scg.fusion.messaging;
+
+public interface PayloadCodec {
+
+    byte[] encode(Object payload);
+
+    Object decode(byte[] bytes);
+
+}
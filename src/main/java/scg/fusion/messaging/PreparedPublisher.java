@@ -0,0 +1,4 @@
+package scg.fusion.messaging;
+
+public interface PreparedPublisher extends MessagePublisher {
+}
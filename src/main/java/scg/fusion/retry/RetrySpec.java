@@ -1,6 +1,5 @@
 package scg.fusion.retry;
 
-import scg.fusion.MethodJoint;
 import scg.fusion.annotation.Around;
 import scg.fusion.annotation.Retryable;
 import scg.fusion.aop.ExecutionJoinPoint;
@@ -11,11 +10,7 @@ import static java.util.concurrent.locks.LockSupport.parkNanos;
 public interface RetrySpec {
 
     @Around("@execution(scg.fusion.annotation.Retryable)")
-    default Object aroundRetryable(ExecutionJoinPoint joinPoint) throws Throwable {
-
-        MethodJoint joint = joinPoint.dissect();
-
-        Retryable annotation = joint.getAnnotation(Retryable.class);
+    default Object aroundRetryable(ExecutionJoinPoint joinPoint, Retryable annotation) throws Throwable {
 
         int attempts = annotation.attempts();
 
@@ -0,0 +1,61 @@
+package scg.fusion;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import scg.fusion.annotation.Around;
+import scg.fusion.aop.ExecutionJoinPoint;
+
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static scg.fusion.Assumptions.assumeOnTheFlyClasses;
+import static scg.fusion.InheritedExecutionTest.newAdvisementLayer;
+
+public class AdviceToggleTest {
+
+    @BeforeClass
+    public static void assumeHotSpot() {
+        assumeOnTheFlyClasses();
+    }
+
+    @Test
+    public void togglesAdviceDeclaredByAspectSuperclass() throws Exception {
+
+        AdvisementLayer advisement = newAdvisementLayer(new GreetingAspect(), Greeter.class);
+
+        Method advice = TracingAspect.class.getDeclaredMethod("around", ExecutionJoinPoint.class);
+
+        ExecutionChain chain = advisement.getExecutionChains(Greeter.class).get(0);
+
+        assertTrue(chain.isActive());
+
+        advisement.setEnabled(advice, false);
+
+        assertFalse(advisement.isEnabled(advice));
+        assertFalse(chain.isActive());
+
+        advisement.setEnabled(advice, true);
+
+        assertTrue(chain.isActive());
+    }
+
+    public static class Greeter {
+
+        public String greet(String name) {
+            return "Hello, " + name;
+        }
+    }
+
+    public static abstract class TracingAspect {
+
+        @Around("execution(* greet(..))")
+        public Object around(ExecutionJoinPoint joinPoint) throws Throwable {
+            return joinPoint.proceed();
+        }
+    }
+
+    public static class GreetingAspect extends TracingAspect {
+    }
+
+}
@@ -0,0 +1,24 @@
+package scg.fusion;
+
+import static java.util.Objects.nonNull;
+import static org.junit.Assume.assumeTrue;
+
+final class Assumptions {
+
+    private Assumptions() {
+        throw new UnsupportedOperationException();
+    }
+
+    static void assumeOnTheFlyClasses() {
+        assumeTrue("on the fly classes extend sun.reflect.MagicAccessorImpl", isPresent("sun.reflect.MagicAccessorImpl"));
+    }
+
+    static boolean isPresent(String className) {
+        try {
+            return nonNull(Class.forName(className));
+        } catch (ClassNotFoundException | LinkageError cause) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+package scg.fusion;
+
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static scg.fusion.Utils.isAsyncExecution;
+
+public class AsyncExecutionTest {
+
+    @Test
+    public void asyncExecutionsReturnCompletionStages() throws Exception {
+
+        assertTrue(isAsyncExecution(Executions.class.getDeclaredMethod("stage")));
+        assertTrue(isAsyncExecution(Executions.class.getDeclaredMethod("future")));
+        assertTrue(isAsyncExecution(Executions.class.getDeclaredMethod("subtype")));
+
+        assertFalse(isAsyncExecution(Executions.class.getDeclaredMethod("object")));
+        assertFalse(isAsyncExecution(Executions.class.getDeclaredMethod("plainFuture")));
+    }
+
+    interface Executions {
+
+        CompletionStage<String> stage();
+
+        CompletableFuture<String> future();
+
+        Pending subtype();
+
+        Object object();
+
+        Future<String> plainFuture();
+    }
+
+    static final class Pending extends CompletableFuture<String> {
+    }
+
+}
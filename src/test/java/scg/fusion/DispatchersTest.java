@@ -0,0 +1,71 @@
+package scg.fusion;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static java.lang.String.format;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static scg.fusion.Dispatchers.BOUNDED;
+import static scg.fusion.MailboxOverflow.BLOCK;
+import static scg.fusion.TopicJournal.NO_POSITION;
+import static scg.fusion.Utils.MESSAGING_DISPATCHER_PARALLELISM_PROPERTY_NAME;
+import static scg.fusion.Utils.MESSAGING_DISPATCHER_TYPE_PROPERTY_NAME;
+
+public class DispatchersTest {
+
+    private static final String TOPIC = "orders";
+
+    private static final String DISPATCHER = "orders-dispatcher";
+
+    @Test
+    public void rejectedActorIsScheduledAgain() throws Exception {
+
+        Map<String, String> properties = new HashMap<>();
+
+        properties.put(format(MESSAGING_DISPATCHER_TYPE_PROPERTY_NAME, DISPATCHER), BOUNDED);
+        properties.put(format(MESSAGING_DISPATCHER_PARALLELISM_PROPERTY_NAME, DISPATCHER), "1");
+
+        CountDownLatch received = new CountDownLatch(1);
+
+        MessageListenerHandle[] handles = { message -> received.countDown() };
+
+        ComponentActor actor = new ComponentActorImpl("actor", 16, 16, null, 1, emptyMap(), () -> {
+            throw new UnsupportedOperationException();
+        });
+
+        Dispatchers closed = new Dispatchers(properties::get);
+
+        ActorRoute rejecting = new ActorRoute(actor, "consumer", closed.get(TOPIC, DISPATCHER), MailboxOverflow.of(BLOCK, 0L), emptyMap());
+
+        closed.close();
+
+        // a shut down dispatcher neither runs the drain on the publisher nor swallows it
+        try {
+            actor.receive(newMessage(1), handles, rejecting, NO_POSITION, null);
+            fail();
+        } catch (RejectedExecutionException expected) {
+            // the actor is left unscheduled
+        }
+
+        try (Dispatchers dispatchers = new Dispatchers(properties::get)) {
+
+            ActorRoute route = new ActorRoute(actor, "consumer", dispatchers.get(TOPIC, DISPATCHER), MailboxOverflow.of(BLOCK, 0L), emptyMap());
+
+            assertTrue(actor.receive(newMessage(2), handles, route, NO_POSITION, null));
+            assertTrue(received.await(10L, SECONDS));
+        }
+    }
+
+    private static MessageImpl newMessage(int payload) {
+        return new MessageImpl(null, payload, emptyMap(), emptySet());
+    }
+
+}
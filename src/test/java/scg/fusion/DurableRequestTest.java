@@ -0,0 +1,126 @@
+package scg.fusion;
+
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import scg.fusion.annotation.MessageListener;
+import scg.fusion.annotation.MessageTopics;
+import scg.fusion.messaging.Message;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static scg.fusion.Assumptions.assumeOnTheFlyClasses;
+import static scg.fusion.Utils.MESSAGING_DISPATCHER_PROPERTY_NAME;
+import static scg.fusion.Utils.MESSAGING_JOURNAL_DIRECTORY_PROPERTY_NAME;
+import static scg.fusion.Utils.MESSAGING_TOPIC_DURABLE_PROPERTY_NAME;
+
+public class DurableRequestTest {
+
+    private static final String TOPIC = "requests";
+
+    private static final CountDownLatch received = new CountDownLatch(1);
+
+    private static final CountDownLatch release = new CountDownLatch(1);
+
+    private static final CountDownLatch replied = new CountDownLatch(1);
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void assumeHotSpot() {
+        assumeOnTheFlyClasses();
+    }
+
+    @After
+    public void release() {
+        release.countDown();
+    }
+
+    @Test
+    public void replayedRequestNeverCompletesARequestOfTheRestartedBroker() throws Exception {
+
+        Map<String, String> properties = new HashMap<>();
+
+        properties.put(MESSAGING_JOURNAL_DIRECTORY_PROPERTY_NAME, folder.newFolder().getPath());
+        properties.put(format(MESSAGING_TOPIC_DURABLE_PROPERTY_NAME, TOPIC), "true");
+
+        // each broker drains on its own pool, the first one's stays blocked
+        properties.put(MESSAGING_DISPATCHER_PROPERTY_NAME, TOPIC);
+
+        MessageBrokerImpl first = newBroker(properties);
+
+        first.replayJournals();
+
+        // the first broker goes down while its request is still being handled, so the request stays unacknowledged
+        first.request(TOPIC, "old", 10L, SECONDS);
+
+        assertTrue(received.await(10L, SECONDS));
+
+        first.closeMessaging();
+
+        MessageBrokerImpl second = newBroker(properties);
+
+        try {
+
+            // journaled ahead of the replay, so it is pending before the old request is handled again
+            CompletableFuture<Object> request = second.request(TOPIC, "new", 10L, SECONDS).toCompletableFuture();
+
+            second.replayJournals();
+
+            assertTrue(replied.await(10L, SECONDS));
+
+            // the reply to the replayed request belongs to a broker that is gone
+            assertFalse(request.isDone());
+
+        } finally {
+            second.closeMessaging();
+        }
+    }
+
+    private static MessageBrokerImpl newBroker(Map<String, String> properties) {
+
+        MessageBrokerImpl broker = new MessageBrokerImpl() {
+            @Override
+            Environment getEnvironment() {
+                return properties::get;
+            }
+        };
+
+        broker.registerActor(Desk.class, null);
+        broker.freezeRoutes();
+
+        return broker;
+
+    }
+
+    public static class Desk {
+
+        @MessageListener
+        @MessageTopics(TOPIC)
+        public static void onRequest(Message<String> message) throws InterruptedException {
+
+            if (!"old".equals(message.payload())) {
+                return;
+            }
+
+            if (received.getCount() > 0) {
+                received.countDown();
+                release.await();
+            } else {
+                message.reply("old reply");
+                replied.countDown();
+            }
+        }
+    }
+
+}
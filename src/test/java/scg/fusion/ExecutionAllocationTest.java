@@ -0,0 +1,118 @@
+package scg.fusion;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import scg.fusion.aop.ExecutionJoinPoint;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.Math.min;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import static scg.fusion.Assumptions.assumeOnTheFlyClasses;
+import static scg.fusion.Assumptions.isPresent;
+import static scg.fusion.ComponentFactoryImpl.enhance;
+import static scg.fusion.OnTheFlyFactory.newExecutionAdvisor;
+
+public class ExecutionAllocationTest {
+
+    private static final int CALLS = 100_000;
+
+    private static final int ROUNDS = 50;
+
+    // an Integer and a Long box for the first argument and the result of every call, halved over add and mul
+    private static final double BOXES_PER_CALL = (2 * 16 + 2 * 24) / 2.0;
+
+    @BeforeClass
+    public static void assumeHotSpot() {
+
+        assumeOnTheFlyClasses();
+        assumeTrue("allocation is measured per thread", isPresent("com.sun.management.ThreadMXBean"));
+    }
+
+    @Test
+    public void specializedExecutionDoesNotAllocate() throws Throwable {
+
+        Calculator calculator = advise(Calculator.class, new PassThroughAspect());
+
+        assertEquals(3, calculator.add(1, 2));
+        assertEquals(6L, calculator.mul(2L, 3L));
+
+        // join point, argument array and boxes (within the box cache range) are all scalar replaced
+        assertEquals(0.0, allocatedBytesPerCall(calculator, 0), 1.0);
+
+        // the interceptor contract passes arguments as Object[], boxes outside the cache may survive, nothing else does
+        assertTrue(allocatedBytesPerCall(calculator, 1_000_000) <= BOXES_PER_CALL);
+    }
+
+    private static double allocatedBytesPerCall(Calculator calculator, int base) {
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        long thread = Thread.currentThread().getId();
+
+        long sum = 0;
+
+        double allocated = Double.MAX_VALUE;
+
+        // JIT needs a few rounds to compile the whole call path
+        for (int round = 0; round < ROUNDS && allocated >= 1.0; round++) {
+
+            long before = threads.getThreadAllocatedBytes(thread);
+
+            for (int i = 0; i < CALLS; i++) {
+                sum += calculator.add(base + (i & 63), 1) + calculator.mul(base + (i & 7), 3);
+            }
+
+            allocated = min(allocated, (threads.getThreadAllocatedBytes(thread) - before) / (2.0 * CALLS));
+        }
+
+        assertNotEquals(0, sum);
+
+        return allocated;
+    }
+
+    private static <T> T advise(Class<T> componentType, Object aspect) throws Exception {
+
+        Method advice = aspect.getClass().getMethod("around", ExecutionJoinPoint.class);
+
+        List<ExecutionChain> chains = new ArrayList<>();
+
+        // specialize on the second call, so the warm-up profile never sees the generic chain
+        Specializations specializations = new Specializations(1, 2);
+
+        for (Method method : componentType.getDeclaredMethods()) {
+
+            ExecutionAdvisor advisor = newExecutionAdvisor(Pointcut.parse("execution(* *(..))"), aspect.getClass(), advice, () -> aspect, 0);
+
+            chains.add(new ExecutionChain(method, singletonList(advisor), $ -> true, specializations));
+        }
+
+        return componentType.cast(enhance(componentType, new ExecutionCallbacks(chains)).getDeclaredConstructor().newInstance());
+    }
+
+    public static class Calculator {
+
+        public int add(int a, int b) {
+            return a + b;
+        }
+
+        public long mul(long a, long b) {
+            return a * b;
+        }
+    }
+
+    public static class PassThroughAspect {
+
+        public Object around(ExecutionJoinPoint joinPoint) throws Throwable {
+            return joinPoint.proceed();
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package scg.fusion;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static scg.fusion.Assumptions.assumeOnTheFlyClasses;
+
+public class ExecutionMatcherTest {
+
+    private static final String PREFIX = ExecutionMatcherTest.class.getName() + "$";
+
+    @BeforeClass
+    public static void assumeHotSpot() {
+        assumeOnTheFlyClasses();
+    }
+
+    @Test
+    public void matchesTypesOfAnotherClassLoaderByName() throws Exception {
+
+        ClassLoader loader = new IsolatedClassLoader(PREFIX + "Greeter", PREFIX + "Name", PREFIX + "Named");
+
+        Method greet = loader.loadClass(PREFIX + "Greeter").getDeclaredMethod("greet", loader.loadClass(PREFIX + "Name"));
+
+        assertNotSame(Name.class, greet.getReturnType());
+
+        assertTrue(Pointcut.parse("execution(scg.fusion.ExecutionMatcherTest.Name greet(scg.fusion.ExecutionMatcherTest.Name))").match(greet));
+        assertTrue(Pointcut.parse("execution(* greet(scg.fusion.ExecutionMatcherTest.Named+))").match(greet));
+        assertTrue(Pointcut.parse("execution(* " + new String(new char[]{'g', 'r', 'e', 'e', 't'}) + "(..))").match(greet));
+
+        assertFalse(Pointcut.parse("execution(* greet(java.lang.String))").match(greet));
+        assertFalse(Pointcut.parse("execution(* greet(scg.fusion.ExecutionMatcherTest.Greeter+))").match(greet));
+    }
+
+    public interface Named {
+    }
+
+    public static class Name implements Named {
+    }
+
+    public static class Greeter {
+
+        public Name greet(Name name) {
+            return name;
+        }
+    }
+
+}
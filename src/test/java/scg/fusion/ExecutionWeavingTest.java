@@ -0,0 +1,81 @@
+package scg.fusion;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import scg.fusion.aop.ExecutionJoinPoint;
+
+import java.lang.reflect.Method;
+
+import static java.util.Collections.singletonList;
+import static java.util.Objects.nonNull;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import static scg.fusion.Assumptions.assumeOnTheFlyClasses;
+import static scg.fusion.OnTheFlyFactory.newExecutionAdvisor;
+import static scg.fusion.Specializations.DEFAULT_LIMIT;
+import static scg.fusion.Specializations.DEFAULT_THRESHOLD;
+
+public class ExecutionWeavingTest {
+
+    private static final int CALLS = 20_000;
+
+    @BeforeClass
+    public static void assumeAgent() {
+        assumeOnTheFlyClasses();
+        assumeTrue("runtime weaving needs the agent", nonNull(FusionAgent.getInstrumentation()));
+    }
+
+    @Test
+    public void proceedRunsTheWovenBodyEvenIfOverridden() throws Exception {
+
+        assertTrue(ExecutionWeaver.weave(Greeter.class, singletonList(newExecutionChain(Greeter.class.getDeclaredMethod("greet", String.class)))));
+
+        try {
+            // keep calling past the specialization threshold
+            for (int i = 0; i < CALLS; i++) {
+                assertEquals("<Hello, world>", new Greeter().greet("world"));
+                assertEquals("[<Hello, world>]", new BracketGreeter().greet("world"));
+            }
+        } finally {
+            ExecutionWeaver.unweave(Greeter.class);
+        }
+
+        assertEquals("Hello, world", new Greeter().greet("world"));
+        assertEquals("[Hello, world]", new BracketGreeter().greet("world"));
+    }
+
+    static ExecutionChain newExecutionChain(Method method) throws Exception {
+
+        Object aspect = new WrappingAspect();
+
+        Method advice = aspect.getClass().getMethod("around", ExecutionJoinPoint.class);
+
+        ExecutionAdvisor advisor = newExecutionAdvisor(Pointcut.parse("execution(* *(..))"), aspect.getClass(), advice, () -> aspect, 0);
+
+        return new ExecutionChain(method, singletonList(advisor), $ -> true, new Specializations(DEFAULT_THRESHOLD, DEFAULT_LIMIT));
+    }
+
+    public static class Greeter {
+
+        public String greet(String name) {
+            return "Hello, " + name;
+        }
+    }
+
+    public static class BracketGreeter extends Greeter {
+
+        @Override
+        public String greet(String name) {
+            return "[" + super.greet(name) + "]";
+        }
+    }
+
+    public static class WrappingAspect {
+
+        public Object around(ExecutionJoinPoint joinPoint) throws Throwable {
+            return "<" + joinPoint.proceed() + ">";
+        }
+    }
+
+}
@@ -0,0 +1,174 @@
+package scg.fusion;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import scg.fusion.annotation.Around;
+import scg.fusion.aop.ExecutionJoinPoint;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static scg.fusion.Assumptions.assumeOnTheFlyClasses;
+import static scg.fusion.ComponentFactoryImpl.enhance;
+import static scg.fusion.Specializations.DEFAULT_LIMIT;
+import static scg.fusion.Specializations.DEFAULT_THRESHOLD;
+
+public class InheritedExecutionTest {
+
+    private static final int CALLS = 20_000;
+
+    @BeforeClass
+    public static void assumeHotSpot() {
+        assumeOnTheFlyClasses();
+    }
+
+    @Test
+    public void inheritedExecutionIsAdvisedInEverySubclass() throws Exception {
+
+        Method greet = Base.class.getDeclaredMethod("greet", String.class);
+
+        AdvisementLayer advisement = newAdvisementLayer(new GreetingAspect(), English.class, German.class);
+
+        for (Class<?> componentType : asList(English.class, German.class)) {
+            assertTrue(advisement.isProxy(componentType));
+            assertEquals(greet, advisement.getExecutionChains(componentType).get(0).getMethod());
+        }
+
+        Base english = newInstance(advisement, English.class);
+        Base german  = newInstance(advisement, German.class);
+
+        // both subclasses share the chain of Base.greet, keep calling past the specialization threshold
+        for (int i = 0; i < CALLS; i++) {
+            assertEquals("<Hello, world>", english.greet("world"));
+            assertEquals("<Hallo, world>", german.greet("world"));
+        }
+    }
+
+    @Test
+    public void everyContainerAdvisesWithItsOwnAspect() throws Exception {
+
+        Base first  = newInstance(newAdvisementLayer(new GreetingAspect("[", "]"), English.class), English.class);
+        Base second = newInstance(newAdvisementLayer(new GreetingAspect("{", "}"), English.class), English.class);
+
+        // the advisor classes are shared, the aspect instances are not
+        assertEquals("[Hello, world]", first.greet("world"));
+        assertEquals("{Hello, world}", second.greet("world"));
+        assertEquals("[Hello, world]", first.greet("world"));
+    }
+
+    @Test
+    public void covariantOverrideIsAdvisedRatherThanItsBridge() throws Exception {
+
+        Method top = BookShelf.class.getDeclaredMethod("top");
+
+        assertTrue(Utils.streamExecutableMethods(BookShelf.class).noneMatch(Method::isBridge));
+        assertTrue(Utils.streamExecutableMethods(BookShelf.class).anyMatch(top::equals));
+
+        AdvisementLayer advisement = newAdvisementLayer(new ShelfAspect(), BookShelf.class);
+
+        assertEquals(top, advisement.getExecutionChains(BookShelf.class).get(0).getMethod());
+
+        Shelf shelf = (Shelf) enhance(BookShelf.class, advisement.getExecutionCallbacks(BookShelf.class)).getDeclaredConstructor().newInstance();
+
+        // called through the bridge and directly, advised once either way
+        assertEquals("<book>", shelf.top());
+        assertEquals("<book>", ((BookShelf) shelf).top());
+    }
+
+    static AdvisementLayer newAdvisementLayer(Object aspect, Class<?>...componentTypes) {
+
+        ComponentFactory components = (ComponentFactory) Proxy.newProxyInstance(ComponentFactory.class.getClassLoader(), new Class<?>[]{ComponentFactory.class}, (proxy, method, args) -> {
+
+            if ("getProvider".equals(method.getName())) {
+                return (ComponentProvider<Object>) () -> aspect;
+            }
+
+            throw new UnsupportedOperationException(method.getName());
+        });
+
+        Set<Class<?>> types = new HashSet<>(asList(componentTypes));
+
+        types.add(aspect.getClass());
+
+        return new AdvisementLayer(types, components, new Specializations(DEFAULT_THRESHOLD, DEFAULT_LIMIT));
+    }
+
+    private static Base newInstance(AdvisementLayer advisement, Class<? extends Base> componentType) throws Exception {
+        return (Base) enhance(componentType, advisement.getExecutionCallbacks(componentType)).getDeclaredConstructor().newInstance();
+    }
+
+    public static abstract class Base {
+
+        public String greet(String name) {
+            return salutation() + ", " + name;
+        }
+
+        protected abstract String salutation();
+    }
+
+    public static class English extends Base {
+
+        @Override
+        protected String salutation() {
+            return "Hello";
+        }
+    }
+
+    public static class German extends Base {
+
+        @Override
+        protected String salutation() {
+            return "Hallo";
+        }
+    }
+
+    public static class Shelf {
+
+        public Object top() {
+            return null;
+        }
+    }
+
+    public static class BookShelf extends Shelf {
+
+        @Override
+        public String top() {
+            return "book";
+        }
+    }
+
+    public static class ShelfAspect {
+
+        @Around("execution(* top(..))")
+        public Object around(ExecutionJoinPoint joinPoint) throws Throwable {
+            return "<" + joinPoint.proceed() + ">";
+        }
+    }
+
+    public static class GreetingAspect {
+
+        private final String prefix;
+
+        private final String suffix;
+
+        public GreetingAspect() {
+            this("<", ">");
+        }
+
+        GreetingAspect(String prefix, String suffix) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+
+        @Around("execution(* greet(..))")
+        public Object around(ExecutionJoinPoint joinPoint) throws Throwable {
+            return prefix + joinPoint.proceed() + suffix;
+        }
+    }
+
+}
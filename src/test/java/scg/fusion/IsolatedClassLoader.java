@@ -0,0 +1,59 @@
+package scg.fusion;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+// defines its own copy of the given classes, everything else comes from the test class loader
+final class IsolatedClassLoader extends ClassLoader {
+
+    private final Map<String, byte[]> classFiles = new HashMap<>();
+
+    IsolatedClassLoader(String...classNames) throws IOException {
+
+        super(IsolatedClassLoader.class.getClassLoader());
+
+        for (String className : classNames) {
+            classFiles.put(className, readClassFile(className));
+        }
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+
+        byte[] classFile = classFiles.get(name);
+
+        if (isNull(classFile)) {
+            return super.loadClass(name, resolve);
+        }
+
+        synchronized (getClassLoadingLock(name)) {
+
+            Class<?> type = findLoadedClass(name);
+
+            return nonNull(type) ? type : defineClass(name, classFile, 0, classFile.length);
+        }
+    }
+
+    static byte[] readClassFile(String className) throws IOException {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (InputStream classFile = IsolatedClassLoader.class.getClassLoader().getResourceAsStream(className.replace('.', '/') + ".class")) {
+
+            byte[] buffer = new byte[4096];
+
+            for (int n; (n = classFile.read(buffer)) != -1; ) {
+                bytes.write(buffer, 0, n);
+            }
+        }
+
+        return bytes.toByteArray();
+    }
+
+}
@@ -0,0 +1,128 @@
+package scg.fusion;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+
+public class JournalCursorTest {
+
+    private static final String TOPIC = "orders";
+
+    private static final String CONSUMER = "consumer";
+
+    private static final int SEGMENT_SIZE = 64 * 1024;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void cursorMovesOverSettledPrefixOnly() throws Exception {
+
+        File root = folder.newFolder();
+
+        try (TopicJournal journal = newJournal(root)) {
+
+            JournalCursor cursor = journal.newCursor(CONSUMER);
+
+            long initial = cursor.getPosition();
+
+            journal.markReplayed();
+
+            long first  = journal.append(newMessage(1));
+            long second = journal.append(newMessage(2));
+            long third  = journal.append(newMessage(3));
+
+            // publishers reach the mailbox in any order once the journal monitor is released
+            cursor.ack(third);
+
+            assertEquals(initial, cursor.getPosition());
+
+            cursor.ack(first);
+
+            assertEquals(first, cursor.getPosition());
+
+            cursor.ack(second);
+
+            assertEquals(third, cursor.getPosition());
+        }
+    }
+
+    @Test
+    public void backlogIsReplayedFromSettledPrefix() throws Exception {
+
+        File root = folder.newFolder();
+
+        long first;
+
+        try (TopicJournal journal = newJournal(root)) {
+
+            JournalCursor cursor = journal.newCursor(CONSUMER);
+
+            journal.markReplayed();
+
+            first = journal.append(newMessage(1));
+
+            journal.append(newMessage(2));
+            journal.append(newMessage(3));
+
+            long fourth = journal.append(newMessage(4));
+
+            // the fourth one is settled ahead of the second and the third, so it is replayed again
+            cursor.ack(first);
+            cursor.ack(fourth);
+        }
+
+        try (TopicJournal journal = newJournal(root)) {
+
+            JournalCursor cursor = journal.newCursor(CONSUMER);
+
+            assertEquals(first, cursor.getPosition());
+
+            long from = journal.expectBacklog(cursor);
+
+            long to = journal.markReplayed();
+
+            List<Object> replayed = new ArrayList<>();
+
+            List<Long> positions = new ArrayList<>();
+
+            journal.replay(from, to, (position, record) -> {
+                replayed.add(journal.decode(null, record).payload());
+                positions.add(position);
+            });
+
+            assertEquals(asList(2, 3, 4), replayed);
+
+            // the backlog is expected in journal order, live appends queue up behind it
+            long live = journal.append(newMessage(5));
+
+            cursor.ack(live);
+            cursor.ack(positions.get(2));
+            cursor.ack(positions.get(0));
+
+            assertEquals(positions.get(0).longValue(), cursor.getPosition());
+
+            cursor.ack(positions.get(1));
+
+            assertEquals(live, cursor.getPosition());
+        }
+    }
+
+    private static TopicJournal newJournal(File root) {
+        return new TopicJournal(TOPIC, root, SEGMENT_SIZE, new SerializationPayloadCodec(), false);
+    }
+
+    private static MessageImpl newMessage(int payload) {
+        return new MessageImpl(null, payload, emptyMap(), singleton(TOPIC));
+    }
+
+}
@@ -0,0 +1,156 @@
+package scg.fusion;
+
+import org.junit.After;
+import org.junit.Test;
+import scg.fusion.exceptions.MailboxOverflowException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static scg.fusion.MailboxOverflow.BLOCK;
+import static scg.fusion.MailboxOverflow.DEFAULT_MAILBOX_OVERFLOW;
+import static scg.fusion.TopicJournal.NO_POSITION;
+
+public class MailboxOverflowTest {
+
+    private static final int MESSAGES = 16;
+
+    // daemons, so that a deadlocked drainer fails the test rather than hangs the build
+    private final ExecutorService first = newSingleThreadExecutor(MailboxOverflowTest::newDaemon);
+
+    private final ExecutorService second = newSingleThreadExecutor(MailboxOverflowTest::newDaemon);
+
+    @After
+    public void shutdown() {
+        first.shutdownNow();
+        second.shutdownNow();
+    }
+
+    @Test
+    public void defaultBlockGivesUp() {
+        assertEquals(BLOCK, DEFAULT_MAILBOX_OVERFLOW.strategy);
+        assertTrue(DEFAULT_MAILBOX_OVERFLOW.isTimed());
+    }
+
+    @Test
+    public void blockedPublisherIsWokenByTheDrainer() throws Exception {
+
+        AtomicInteger received = new AtomicInteger();
+
+        CountDownLatch done = new CountDownLatch(MESSAGES);
+
+        MessageListenerHandle[] handles = { message -> {
+            sleep(5L);
+            received.incrementAndGet();
+            done.countDown();
+        } };
+
+        ComponentActor actor = newActor();
+
+        ActorRoute route = newRoute(actor, first);
+
+        for (int i = 0; i < MESSAGES; i++) {
+            assertTrue(actor.receive(newMessage(i), handles, route, NO_POSITION, null));
+        }
+
+        assertTrue(done.await(10L, SECONDS));
+        assertEquals(MESSAGES, received.get());
+    }
+
+    @Test
+    public void listenerNeverAwaitsAnotherFullMailbox() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+
+        CountDownLatch drained = new CountDownLatch(2);
+
+        MessageListenerHandle[] stuck = { message -> {
+            await(release);
+            drained.countDown();
+        } };
+
+        ComponentActor target = newActor();
+
+        ActorRoute targetRoute = newRoute(target, second);
+
+        // the second message waits for the first to be taken, then fills the mailbox while the first one is stuck
+        assertTrue(target.receive(newMessage(0), stuck, targetRoute, NO_POSITION, null));
+        assertTrue(target.receive(newMessage(1), stuck, targetRoute, NO_POSITION, null));
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        CountDownLatch done = new CountDownLatch(1);
+
+        MessageListenerHandle[] forwarding = { message -> {
+            try {
+                target.receive(newMessage(2), stuck, targetRoute, NO_POSITION, null);
+            } catch (Throwable cause) {
+                failure.set(cause);
+            } finally {
+                done.countDown();
+            }
+        } };
+
+        ComponentActor source = newActor();
+
+        source.receive(newMessage(0), forwarding, newRoute(source, first), NO_POSITION, null);
+
+        try {
+            assertTrue(done.await(10L, SECONDS));
+            assertTrue(failure.get() instanceof MailboxOverflowException);
+        } finally {
+            release.countDown();
+        }
+
+        assertTrue(drained.await(10L, SECONDS));
+    }
+
+    private static ComponentActor newActor() {
+        return new ComponentActorImpl("actor", 1, 1, null, 1, emptyMap(), () -> {
+            throw new UnsupportedOperationException();
+        });
+    }
+
+    private static ActorRoute newRoute(ComponentActor actor, ExecutorService executor) {
+        return new ActorRoute(actor, "consumer", new Dispatcher("dispatcher", "test", executor), MailboxOverflow.of(BLOCK, 0L), emptyMap());
+    }
+
+    private static MessageImpl newMessage(int payload) {
+        return new MessageImpl(null, payload, emptyMap(), emptySet());
+    }
+
+    private static Thread newDaemon(Runnable task) {
+
+        Thread thread = new Thread(task);
+
+        thread.setDaemon(true);
+
+        return thread;
+
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException cause) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException cause) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package scg.fusion;
+
+import org.junit.Test;
+import scg.fusion.annotation.MessageListener;
+import scg.fusion.exceptions.IllegalContractException;
+import scg.fusion.messaging.Message;
+
+import java.util.List;
+
+import static scg.fusion.Verification.verifyMessageListener;
+
+public class MessageListenerVerificationTest {
+
+    @Test
+    public void plainListenerKeepsTheDefaultBatchPolicy() throws Exception {
+        verifyMessageListener(Listeners.class.getDeclaredMethod("plain", Message.class));
+    }
+
+    @Test
+    public void batchListenerKeepsTheDefaultBatchPolicy() throws Exception {
+        verifyMessageListener(Listeners.class.getDeclaredMethod("batch", List.class));
+    }
+
+    @Test(expected = IllegalContractException.class)
+    public void plainListenerCannotDeclareBatchPolicy() throws Exception {
+        verifyMessageListener(Listeners.class.getDeclaredMethod("sized", Message.class));
+    }
+
+    @Test(expected = IllegalContractException.class)
+    public void batchListenerNeedsBatchesAboveOne() throws Exception {
+        verifyMessageListener(Listeners.class.getDeclaredMethod("single", List.class));
+    }
+
+    static class Listeners {
+
+        @MessageListener
+        void plain(Message<String> message) {
+        }
+
+        @MessageListener
+        void batch(List<Message<String>> messages) {
+        }
+
+        @MessageListener(maxBatchSize = 16)
+        void sized(Message<String> message) {
+        }
+
+        @MessageListener(maxBatchSize = 1)
+        void single(List<Message<String>> messages) {
+        }
+
+    }
+
+}
@@ -0,0 +1,78 @@
+package scg.fusion;
+
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static scg.fusion.messaging.Headers.PARTITION_KEY;
+
+public class PartitionedComponentActorTest {
+
+    private static final int LANES = 4;
+
+    private static final int MESSAGES = 64;
+
+    @Test
+    public void laneLoadsAreManaged() throws Exception {
+
+        long[] received = new long[LANES];
+
+        PartitionedComponentActor actor = new PartitionedComponentActor("orders", LANES, PARTITION_KEY, lane -> (message, handles, route, position, receipt) -> {
+            received[lane]++;
+            return true;
+        });
+
+        // equal keys always land on the same lane
+        for (int i = 0; i < MESSAGES; i++) {
+            actor.receive(new MessageImpl(null, "update-" + i, singletonMap(PARTITION_KEY, "order-42"), singleton("orders")), null, null, TopicJournal.NO_POSITION, null);
+        }
+
+        actor.management = Management.register(actor, "scg.fusion:type=PartitionedComponent,name=orders,id=" + System.identityHashCode(this));
+
+        assertNotNull(actor.management);
+
+        try {
+
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+            ObjectName name = actor.management;
+
+            assertEquals(LANES, server.getAttribute(name, "Lanes"));
+            assertArrayEquals(received, (long[]) server.getAttribute(name, "LaneLoads"));
+            assertEquals((double) LANES, (Double) server.getAttribute(name, "LaneSkew"), 0.0);
+
+        } finally {
+            actor.close();
+        }
+
+        assertEquals(0, ManagementFactory.getPlatformMBeanServer().queryNames(new ObjectName("scg.fusion:type=PartitionedComponent,*"), null).size());
+    }
+
+    @Test
+    public void unkeyedMessagesShareOneLane() {
+
+        long[] received = new long[LANES];
+
+        PartitionedComponentActor actor = new PartitionedComponentActor("orders", LANES, PARTITION_KEY, lane -> (message, handles, route, position, receipt) -> {
+            received[lane]++;
+            return true;
+        });
+
+        // different updates of the same order are different payloads, hashing them would spread them over the lanes
+        for (int i = 0; i < MESSAGES; i++) {
+            actor.receive(new MessageImpl(null, "order-42 update-" + i, emptyMap(), singleton("orders")), null, null, TopicJournal.NO_POSITION, null);
+        }
+
+        assertEquals(MESSAGES, received[PartitionedComponentActor.UNKEYED_LANE]);
+        assertArrayEquals(received, actor.getLaneLoads());
+    }
+
+}
@@ -0,0 +1,105 @@
+package scg.fusion;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import scg.fusion.aop.ExecutionJoinPoint;
+
+import java.lang.reflect.Method;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static scg.fusion.Assumptions.assumeOnTheFlyClasses;
+import static scg.fusion.ComponentFactoryImpl.enhance;
+import static scg.fusion.OnTheFlyFactory.newExecutionAdvisor;
+import static scg.fusion.Pointcuts.ALWAYS;
+import static scg.fusion.Pointcuts.NEVER;
+import static scg.fusion.Specializations.DEFAULT_LIMIT;
+import static scg.fusion.Specializations.DEFAULT_THRESHOLD;
+
+public class PointcutResidueTest {
+
+    private static Method greet;
+
+    private static Method bye;
+
+    @BeforeClass
+    public static void assumeHotSpot() throws Exception {
+
+        assumeOnTheFlyClasses();
+
+        greet = Greeter.class.getDeclaredMethod("greet", Object.class);
+        bye   = Greeter.class.getDeclaredMethod("bye", Object.class);
+    }
+
+    @Test
+    public void staticPartIsSettledPerMethod() {
+
+        Pointcut and = Pointcut.parse("execution(* greet(..)) && args(java.lang.String)");
+
+        ExecutionPointcut residue = and.residue(null, greet);
+
+        assertTrue(residue.isDynamic());
+        assertTrue(residue.match(null, greet, new Greeter(), new Object[]{"world"}));
+        assertFalse(residue.match(null, greet, new Greeter(), new Object[]{42}));
+
+        assertSame(NEVER, and.residue(null, bye));
+
+        Pointcut or = Pointcut.parse("execution(* greet(..)) || args(java.lang.String)");
+
+        assertSame(ALWAYS, or.residue(null, greet));
+        assertTrue(or.residue(null, bye).isDynamic());
+    }
+
+    @Test
+    public void negatedExecutionLeavesOnlyTheGuard() {
+
+        Pointcut pointcut = Pointcut.parse("!execution(* greet(..)) && this(scg.fusion.PointcutResidueTest.Greeter)");
+
+        assertSame(NEVER, pointcut.residue(null, greet));
+
+        ExecutionPointcut residue = pointcut.residue(null, bye);
+
+        assertTrue(residue.isDynamic());
+        assertTrue(residue.match(null, bye, new Greeter(), new Object[]{"world"}));
+        assertFalse(residue.match(null, bye, new Object(), new Object[]{"world"}));
+    }
+
+    @Test
+    public void chainTestsOnlyTheResidue() throws Exception {
+
+        Object aspect = new WrappingAspect();
+
+        Method advice = aspect.getClass().getMethod("around", ExecutionJoinPoint.class);
+
+        Pointcut pointcut = Pointcut.parse("execution(* greet(..)) && args(java.lang.String)");
+
+        ExecutionAdvisor advisor = newExecutionAdvisor(pointcut, aspect.getClass(), advice, () -> aspect, 0);
+
+        Greeter greeter = (Greeter) enhance(Greeter.class, new ExecutionCallbacks(singletonList(new ExecutionChain(greet, singletonList(advisor), $ -> true, new Specializations(DEFAULT_THRESHOLD, DEFAULT_LIMIT))))).getDeclaredConstructor().newInstance();
+
+        assertEquals("<Hello, world>", greeter.greet("world"));
+        assertEquals("Hello, 42", greeter.greet(42));
+    }
+
+    public static class WrappingAspect {
+
+        public Object around(ExecutionJoinPoint joinPoint) throws Throwable {
+            return "<" + joinPoint.proceed() + ">";
+        }
+    }
+
+    public static class Greeter {
+
+        public String greet(Object name) {
+            return "Hello, " + name;
+        }
+
+        public String bye(Object name) {
+            return "Bye, " + name;
+        }
+    }
+
+}
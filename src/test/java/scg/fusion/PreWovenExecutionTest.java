@@ -0,0 +1,93 @@
+package scg.fusion;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import scg.fusion.annotation.Woven;
+
+import java.lang.reflect.Method;
+
+import static java.lang.reflect.Modifier.isPrivate;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static scg.fusion.Assumptions.assumeOnTheFlyClasses;
+import static scg.fusion.ExecutionWeavingTest.newExecutionChain;
+
+public class PreWovenExecutionTest {
+
+    private static final int CALLS = 20_000;
+
+    @BeforeClass
+    public static void assumeHotSpot() {
+        assumeOnTheFlyClasses();
+    }
+
+    @Test
+    public void proceedRunsTheOriginalMethod() throws Exception {
+
+        String greeterName = PreWovenExecutionTest.class.getName() + "$Greeter";
+
+        byte[] classFile = IsolatedClassLoader.readClassFile(greeterName);
+
+        // the unwoven class only describes the execution, it lives in a throwaway loader
+        Method execution = new IsolatedClassLoader(greeterName).loadClass(greeterName).getDeclaredMethod("greet", String.class);
+
+        // generated invokers resolve components through the application class loader, so the woven class goes there
+        Class<?> wovenType = defineClass(greeterName, ExecutionWeaver.weave(classFile, singletonMap(execution, false)));
+
+        Method greet = wovenType.getDeclaredMethod("greet", String.class);
+
+        assertTrue(wovenType.isAnnotationPresent(Woven.class));
+        assertTrue(greet.isAnnotationPresent(Deprecated.class));
+        assertTrue(isPrivate(wovenType.getDeclaredMethod("greet$fusion$original", String.class).getModifiers()));
+
+        assertTrue(ExecutionWeaver.weave(wovenType, singletonList(newExecutionChain(greet))));
+
+        Greeting greeter = (Greeting) wovenType.getDeclaredConstructor().newInstance();
+        Greeting bracketGreeter = (Greeting) Class.forName(PreWovenExecutionTest.class.getName() + "$BracketGreeter").getDeclaredConstructor().newInstance();
+
+        try {
+            // keep calling past the specialization threshold
+            for (int i = 0; i < CALLS; i++) {
+                assertEquals("<Hello, world>", greeter.greet("world"));
+                assertEquals("[<Hello, world>]", bracketGreeter.greet("world"));
+            }
+        } finally {
+            ExecutionWeaver.unweave(wovenType);
+        }
+
+        assertEquals("Hello, world", greeter.greet("world"));
+    }
+
+    private static Class<?> defineClass(String className, byte[] classFile) throws Exception {
+
+        Method defineClass = ClassLoader.class.getDeclaredMethod("defineClass", String.class, byte[].class, int.class, int.class);
+
+        defineClass.setAccessible(true);
+
+        return (Class<?>) defineClass.invoke(PreWovenExecutionTest.class.getClassLoader(), className, classFile, 0, classFile.length);
+    }
+
+    public interface Greeting {
+        String greet(String name);
+    }
+
+    public static class Greeter implements Greeting {
+
+        @Deprecated
+        @Override
+        public String greet(String name) {
+            return "Hello, " + name;
+        }
+    }
+
+    public static class BracketGreeter extends Greeter {
+
+        @Override
+        public String greet(String name) {
+            return "[" + super.greet(name) + "]";
+        }
+    }
+
+}
@@ -0,0 +1,173 @@
+package scg.fusion;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import scg.fusion.annotation.MessageListener;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static scg.fusion.MailboxOverflow.BLOCK;
+import static scg.fusion.TopicJournal.NO_POSITION;
+
+public class RedeliveryTest {
+
+    private static final String TOPIC = "orders";
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final ExecutorService executor = newSingleThreadExecutor();
+
+    private final TimerWheel timer = new TimerWheel("redelivery-test", 1L, MILLISECONDS, 64);
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+        timer.close();
+    }
+
+    @Test
+    public void originalDeliveryIsSettledByItsLastAttempt() throws Exception {
+
+        CountDownLatch retried = new CountDownLatch(1);
+
+        CountDownLatch proceed = new CountDownLatch(1);
+
+        AtomicInteger attempts = new AtomicInteger();
+
+        MessageListenerHandle handle = message -> {
+
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("first attempt fails");
+            }
+
+            retried.countDown();
+
+            try {
+                proceed.await();
+            } catch (InterruptedException cause) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        RedeliveryPolicy policy = RedeliveryPolicy.of(RedeliveryTest.class.getDeclaredMethod("listener", Object.class));
+
+        ComponentActorImpl actor = new ComponentActorImpl("actor", 16, 16, null, 1, singletonMap(handle, policy), () -> timer);
+
+        try (TopicJournal journal = new TopicJournal(TOPIC, folder.newFolder(), 64 * 1024, new SerializationPayloadCodec(), false)) {
+
+            ActorRoute route = new ActorRoute(actor, "consumer", new Dispatcher("dispatcher", "test", executor), MailboxOverflow.of(BLOCK, 0L), emptyMap());
+
+            route.cursor = journal.newCursor(route.consumer);
+
+            long initial = route.cursor.getPosition();
+
+            journal.markReplayed();
+
+            MessageImpl message = new MessageImpl(null, 42, emptyMap(), singleton(TOPIC));
+
+            long position = journal.append(message);
+
+            DeliveryReceipt receipt = new DeliveryReceipt();
+
+            receipt.expect();
+
+            actor.receive(message, new MessageListenerHandle[] { handle }, route, position, receipt);
+
+            CompletionStage<Boolean> delivered = receipt.seal();
+
+            assertTrue(retried.await(10L, SECONDS));
+
+            // the first attempt failed but the message is still being retried
+            assertEquals(initial, route.cursor.getPosition());
+            assertFalse(delivered.toCompletableFuture().isDone());
+
+            proceed.countDown();
+
+            assertTrue(delivered.toCompletableFuture().get(10L, SECONDS));
+            assertEquals(position, route.cursor.getPosition());
+        }
+    }
+
+    @Test
+    public void redeliveryIsNotStarvedBySaturatedMailbox() throws Exception {
+
+        AtomicBoolean failed = new AtomicBoolean();
+
+        CountDownLatch redelivered = new CountDownLatch(1);
+
+        MessageListenerHandle handle = message -> {
+
+            if (!Integer.valueOf(-1).equals(((MessageImpl) message).payload())) {
+                sleep(1L);
+                return;
+            }
+
+            // fails once the publisher had time to fill the mailbox
+            if (failed.compareAndSet(false, true)) {
+                sleep(50L);
+                throw new IllegalStateException("first attempt fails");
+            }
+
+            redelivered.countDown();
+        };
+
+        MessageListenerHandle[] handles = { handle };
+
+        RedeliveryPolicy policy = RedeliveryPolicy.of(RedeliveryTest.class.getDeclaredMethod("listener", Object.class));
+
+        // one delivery per pass, so the mailbox is never seen empty while the publisher keeps it full
+        ComponentActorImpl actor = new ComponentActorImpl("actor", 16, 1, null, 1, singletonMap(handle, policy), () -> timer);
+
+        ActorRoute route = new ActorRoute(actor, "consumer", new Dispatcher("dispatcher", "test", executor), MailboxOverflow.of(BLOCK, 0L), emptyMap());
+
+        actor.receive(new MessageImpl(null, -1, emptyMap(), singleton(TOPIC)), handles, route, NO_POSITION, null);
+
+        Thread publisher = new Thread(() -> {
+            try {
+                for (int i = 0; !Thread.currentThread().isInterrupted(); i++) {
+                    actor.receive(new MessageImpl(null, i, emptyMap(), singleton(TOPIC)), handles, route, NO_POSITION, null);
+                }
+            } catch (RuntimeException cause) {
+                // the dispatcher is shut down
+            }
+        });
+
+        publisher.setDaemon(true);
+        publisher.start();
+
+        try {
+            assertTrue(redelivered.await(10L, SECONDS));
+        } finally {
+            publisher.interrupt();
+        }
+    }
+
+    @MessageListener(attempts = 2, backoff = 1L)
+    private static void listener(Object message) {
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException cause) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
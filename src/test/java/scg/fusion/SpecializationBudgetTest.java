@@ -0,0 +1,139 @@
+package scg.fusion;
+
+import org.junit.Test;
+import scg.fusion.aop.ExecutionJoinPoint;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static scg.fusion.Assumptions.assumeOnTheFlyClasses;
+import static scg.fusion.ComponentFactoryImpl.enhance;
+import static scg.fusion.OnTheFlyFactory.newExecutionAdvisor;
+
+public class SpecializationBudgetTest {
+
+    private static final int THREADS = 8;
+
+    @Test
+    public void budgetIsNeverOverdrawn() throws Exception {
+
+        Specializations specializations = new Specializations(1, 3);
+
+        AtomicInteger acquired = new AtomicInteger();
+
+        CountDownLatch start = new CountDownLatch(1);
+
+        Thread[] threads = new Thread[THREADS];
+
+        for (int i = 0; i < THREADS; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException cause) {
+                    return;
+                }
+                for (int j = 0; j < 1_000; j++) {
+                    if (specializations.acquire()) {
+                        acquired.incrementAndGet();
+                    }
+                }
+            });
+            threads[i].start();
+        }
+
+        start.countDown();
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(3, acquired.get());
+        assertFalse(specializations.acquire());
+    }
+
+    @Test
+    public void replacedSpecializationIsRefunded() throws Exception {
+
+        assumeOnTheFlyClasses();
+
+        Specializations specializations = new Specializations(1, 1);
+
+        Object aspect = new PassThroughAspect();
+
+        Method advice = aspect.getClass().getMethod("around", ExecutionJoinPoint.class);
+
+        Method greet = Greeter.class.getDeclaredMethod("greet", String.class);
+
+        ExecutionAdvisor advisor = newExecutionAdvisor(Pointcut.parse("execution(* greet(..))"), aspect.getClass(), advice, () -> aspect, 0);
+
+        ExecutionChain chain = new ExecutionChain(greet, singletonList(advisor), $ -> true, specializations);
+
+        Greeter greeter = (Greeter) enhance(Greeter.class, new ExecutionCallbacks(singletonList(chain))).getDeclaredConstructor().newInstance();
+
+        assertEquals("Hello, world", greeter.greet("world"));
+        assertEquals("Hello, world", greeter.greet("world"));
+
+        // the only slot went to the chain
+        assertFalse(specializations.acquire());
+
+        chain.refresh();
+
+        assertTrue(specializations.acquire());
+    }
+
+    @Test
+    public void refundedSlotGoesToAChainStillAskingForIt() throws Exception {
+
+        assumeOnTheFlyClasses();
+
+        Specializations specializations = new Specializations(1, 1);
+
+        Object aspect = new PassThroughAspect();
+
+        Method advice = aspect.getClass().getMethod("around", ExecutionJoinPoint.class);
+
+        ExecutionAdvisor advisor = newExecutionAdvisor(Pointcut.parse("execution(* *(..))"), aspect.getClass(), advice, () -> aspect, 0);
+
+        ExecutionChain cold = new ExecutionChain(Greeter.class.getDeclaredMethod("greet", String.class), singletonList(advisor), $ -> true, specializations);
+        ExecutionChain hot  = new ExecutionChain(Greeter.class.getDeclaredMethod("farewell", String.class), singletonList(advisor), $ -> true, specializations);
+
+        Greeter greeter = (Greeter) enhance(Greeter.class, new ExecutionCallbacks(asList(cold, hot))).getDeclaredConstructor().newInstance();
+
+        // the cold chain takes the only slot, the hot one is turned down
+        greeter.greet("world");
+        greeter.greet("world");
+        greeter.farewell("world");
+        greeter.farewell("world");
+
+        cold.refresh();
+
+        // the hot chain asks again after twice the threshold and gets the refunded slot
+        assertEquals("Bye, world", greeter.farewell("world"));
+        assertFalse(specializations.acquire());
+    }
+
+    public static class Greeter {
+
+        public String greet(String name) {
+            return "Hello, " + name;
+        }
+
+        public String farewell(String name) {
+            return "Bye, " + name;
+        }
+    }
+
+    public static class PassThroughAspect {
+
+        public Object around(ExecutionJoinPoint joinPoint) throws Throwable {
+            return joinPoint.proceed();
+        }
+    }
+
+}